@@ -4,12 +4,14 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
 @Setter
 @ConfigurationProperties(prefix = "test")
-public class AppProperties implements TestConfig, TestFileNameProvider, LocaleConfig {
+public class AppProperties implements TestConfig, TestFileNameProvider, LocalizedTestFileNameProvider, LocaleConfig,
+        SessionConfig, QuestionSelectionConfig, ResultJournalConfig {
 
     @Getter
     private int rightAnswersCountToPass;
@@ -17,6 +19,24 @@ public class AppProperties implements TestConfig, TestFileNameProvider, LocaleCo
     @Getter
     private Locale locale;
 
+    @Getter
+    private int maxConcurrentSessions;
+
+    @Getter
+    private QuestionSelectionMode questionSelection;
+
+    @Getter
+    private int questionsPerSession;
+
+    @Getter
+    private boolean stopWhenDecided;
+
+    @Getter
+    private String resultJournalDirectory;
+
+    @Getter
+    private int resultJournalSegmentRecords;
+
     private Map<String, String> fileNameByLocaleTag;
 
     public void setLocale(String locale) {
@@ -27,4 +47,16 @@ public class AppProperties implements TestConfig, TestFileNameProvider, LocaleCo
     public String getTestFileName() {
         return fileNameByLocaleTag.get(locale.toLanguageTag());
     }
+
+    @Override
+    public String getTestFileName(Locale locale) {
+        return fileNameByLocaleTag.get(locale.toLanguageTag());
+    }
+
+    @Override
+    public Map<Locale, String> getTestFileNamesByLocale() {
+        Map<Locale, String> fileNames = new LinkedHashMap<>();
+        fileNameByLocaleTag.forEach((tag, fileName) -> fileNames.put(Locale.forLanguageTag(tag), fileName));
+        return fileNames;
+    }
 }
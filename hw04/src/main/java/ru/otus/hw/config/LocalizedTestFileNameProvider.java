@@ -0,0 +1,10 @@
+package ru.otus.hw.config;
+
+import java.util.Locale;
+import java.util.Map;
+
+public interface LocalizedTestFileNameProvider {
+    String getTestFileName(Locale locale);
+
+    Map<Locale, String> getTestFileNamesByLocale();
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.config;
+
+public interface QuestionSelectionConfig {
+    QuestionSelectionMode getQuestionSelection();
+
+    int getQuestionsPerSession();
+
+    boolean isStopWhenDecided();
+}
@@ -0,0 +1,7 @@
+package ru.otus.hw.config;
+
+public interface ResultJournalConfig {
+    String getResultJournalDirectory();
+
+    int getResultJournalSegmentRecords();
+}
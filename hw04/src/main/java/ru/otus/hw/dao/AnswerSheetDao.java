@@ -0,0 +1,9 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.AnswerSheet;
+
+import java.util.stream.Stream;
+
+public interface AnswerSheetDao {
+    Stream<AnswerSheet> streamAll(String fileName);
+}
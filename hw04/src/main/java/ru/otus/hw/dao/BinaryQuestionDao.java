@@ -0,0 +1,83 @@
+package ru.otus.hw.dao;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.dao.binary.QuestionBankFormat;
+import ru.otus.hw.dao.binary.QuestionBankReader;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Repository
+public class BinaryQuestionDao extends ClassPathQuestionDao {
+
+    public BinaryQuestionDao(TestFileNameProvider fileNameProvider) {
+        super(fileNameProvider);
+    }
+
+    @Override
+    public boolean supports(String fileName) {
+        return fileName.endsWith(QuestionBankFormat.FILE_EXTENSION);
+    }
+
+    @Override
+    public List<Question> findAll(String fileName) {
+        try {
+            return createReader(fileName).readAll();
+        } catch (RuntimeException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    @Override
+    public Stream<Question> streamAll(String fileName) {
+        return createReader(fileName).stream();
+    }
+
+    @Override
+    public long getLastModified(String fileName) {
+        if (!isFileSystemPath(fileName)) {
+            return super.getLastModified(fileName);
+        }
+        try {
+            return Files.getLastModifiedTime(MappedFileQuestionDao.toPath(fileName)).toMillis();
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error reading question file attributes: ", ex);
+        }
+    }
+
+    private QuestionBankReader createReader(String fileName) {
+        try {
+            return new QuestionBankReader(isFileSystemPath(fileName) ? mapFile(fileName) : readResource(fileName));
+        } catch (IOException | RuntimeException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    private ByteBuffer mapFile(String fileName) throws IOException {
+        try (var channel = FileChannel.open(MappedFileQuestionDao.toPath(fileName), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private ByteBuffer readResource(String fileName) throws IOException {
+        try (InputStream inputStream = getFileFromResourceAsStream(fileName)) {
+            return ByteBuffer.wrap(inputStream.readAllBytes());
+        }
+    }
+
+    private boolean isFileSystemPath(String fileName) {
+        return fileName.startsWith(MappedFileQuestionDao.FILE_PREFIX);
+    }
+}
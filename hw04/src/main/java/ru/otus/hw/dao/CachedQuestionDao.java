@@ -0,0 +1,111 @@
+package ru.otus.hw.dao;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.config.LocalizedTestFileNameProvider;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Primary
+@ConditionalOnProperty(prefix = "test", name = "streamQuestions", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Repository
+public class CachedQuestionDao implements LocalizedQuestionDao {
+
+    private final TestFileNameProvider fileNameProvider;
+
+    private final LocalizedTestFileNameProvider localizedFileNameProvider;
+
+    private final QuestionFileDaoResolver questionFileDaoResolver;
+
+    private final Map<String, QuestionBank> banks = new ConcurrentHashMap<>();
+
+    // Банк, который не удалось прочитать, не мешает старту: ошибка повторится при обращении к нему
+    @PostConstruct
+    public void preloadAll() {
+        var loads = localizedFileNameProvider.getTestFileNamesByLocale().values().stream()
+                .distinct()
+                .map(fileName -> CompletableFuture.runAsync(() -> findAllInFile(fileName))
+                        .exceptionally(ex -> null))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(loads).join();
+    }
+
+    @Override
+    public List<Question> findAll() {
+        return findAllInFile(fileNameProvider.getTestFileName());
+    }
+
+    @Override
+    public List<Question> findAll(Locale locale) {
+        var fileName = localizedFileNameProvider.getTestFileName(locale);
+        if (fileName == null) {
+            throw new QuestionReadException("No question file for locale " + locale.toLanguageTag());
+        }
+        return findAllInFile(fileName);
+    }
+
+    @Override
+    public Stream<Question> streamAll(Locale locale) {
+        return findAll(locale).stream();
+    }
+
+    @Override
+    public List<Question> findLoaded(Locale locale) {
+        var fileName = localizedFileNameProvider.getTestFileName(locale);
+        var bank = fileName == null ? null : banks.get(fileName);
+        return bank == null ? List.of() : bank.questions();
+    }
+
+    public List<QuestionBankStats> getStats() {
+        List<QuestionBankStats> stats = new ArrayList<>();
+        localizedFileNameProvider.getTestFileNamesByLocale().forEach((locale, fileName) -> {
+            var bank = banks.get(fileName);
+            if (bank != null) {
+                stats.add(new QuestionBankStats(locale, fileName, bank.questions().size(),
+                        TimeUnit.NANOSECONDS.toMillis(bank.loadTimeNanos()), bank.estimatedBytes()));
+            }
+        });
+        return stats;
+    }
+
+    private List<Question> findAllInFile(String fileName) {
+
+        var questionFileDao = questionFileDaoResolver.resolve(fileName);
+        var lastModified = questionFileDao.getLastModified(fileName);
+
+        var bank = banks.get(fileName);
+        if (bank != null && bank.lastModified() == lastModified) {
+            return bank.questions();
+        }
+
+        // Файл читается один раз, остальные сессии ждут результат в compute
+        return banks.compute(fileName, (name, current) -> current != null && current.lastModified() == lastModified
+                ? current
+                : loadBank(questionFileDao, name, lastModified)).questions();
+    }
+
+    private static QuestionBank loadBank(QuestionFileDao questionFileDao, String fileName, long lastModified) {
+        var start = System.nanoTime();
+        var questions = questionFileDao.findAll(fileName);
+        var loadTimeNanos = System.nanoTime() - start;
+        return new QuestionBank(questions, lastModified, loadTimeNanos, QuestionBankStats.estimateBytes(questions));
+    }
+
+    private record QuestionBank(List<Question> questions, long lastModified, long loadTimeNanos,
+                                long estimatedBytes) {
+    }
+}
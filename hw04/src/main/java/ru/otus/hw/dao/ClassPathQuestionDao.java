@@ -0,0 +1,81 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public abstract class ClassPathQuestionDao implements QuestionFileDao {
+
+    // Ресурсы внутри jar не могут измениться, пока приложение запущено
+    public static final long NOT_MODIFIABLE = -1L;
+
+    private final TestFileNameProvider fileNameProvider;
+
+    @Override
+    public boolean supports(String fileName) {
+        return !fileName.startsWith(MappedFileQuestionDao.FILE_PREFIX);
+    }
+
+    @Override
+    public List<Question> findAll() {
+        return findAll(fileNameProvider.getTestFileName());
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        return streamAll(fileNameProvider.getTestFileName());
+    }
+
+    @Override
+    public long getLastModified(String fileName) {
+
+        URL resource = getClass().getClassLoader().getResource(fileName);
+
+        if (resource == null) {
+            throw new QuestionReadException("file not found! " + fileName);
+        }
+        if (!"file".equals(resource.getProtocol())) {
+            return NOT_MODIFIABLE;
+        }
+
+        try {
+            return Files.getLastModifiedTime(Path.of(resource.toURI())).toMillis();
+        } catch (IOException | URISyntaxException ex) {
+            throw new QuestionReadException("Error reading question file attributes: ", ex);
+        }
+    }
+
+    protected InputStream getFileFromResourceAsStream(String fileName) {
+
+        ClassLoader classLoader = getClass().getClassLoader();
+        InputStream inputStream = classLoader.getResourceAsStream(fileName);
+
+        if (inputStream == null) {
+            throw new IllegalArgumentException("file not found! " + fileName);
+        } else {
+            return inputStream;
+        }
+    }
+
+    protected Runnable closeAction(Closeable source) {
+        return () -> {
+            try {
+                source.close();
+            } catch (IOException ex) {
+                throw new QuestionReadException("Error closing question file: ", ex);
+            }
+        };
+    }
+}
@@ -3,7 +3,7 @@ package ru.otus.hw.dao;
 import com.opencsv.bean.ColumnPositionMappingStrategy;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.config.TestFileNameProvider;
 import ru.otus.hw.dao.dto.QuestionDto;
@@ -11,45 +11,96 @@ import ru.otus.hw.domain.Question;
 import ru.otus.hw.exceptions.QuestionReadException;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "test", name = "csvParser", havingValue = "opencsv", matchIfMissing = true)
 @Repository
-public class CsvQuestionDao implements QuestionDao {
-    private final TestFileNameProvider fileNameProvider;
+public class CsvQuestionDao extends ClassPathQuestionDao {
 
-    @Override
-    public List<Question> findAll() {
+    public CsvQuestionDao(TestFileNameProvider fileNameProvider) {
+        super(fileNameProvider);
+    }
 
-        try (Reader reader = new InputStreamReader(getFileFromResourceAsStream(fileNameProvider.getTestFileName()))) {
+    @Override
+    public List<Question> findAll(String fileName) {
 
-            ColumnPositionMappingStrategy<QuestionDto> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(QuestionDto.class);
-            CsvToBean<QuestionDto> csvToBean = new CsvToBeanBuilder<QuestionDto>(reader)
-                    .withSeparator(';')
-                    .withSkipLines(1)
-                    .withMappingStrategy(strategy)
-                    .build();
+        try (Reader reader = new InputStreamReader(getFileFromResourceAsStream(fileName), StandardCharsets.UTF_8)) {
 
-            return csvToBean.parse().stream().map(QuestionDto::toDomainObject).toList();
+            var dtos = createCsvToBean(reader).parse();
+            return IntStream.range(0, dtos.size()).mapToObj(index -> dtos.get(index).toDomainObject(index)).toList();
 
         } catch (RuntimeException | IOException ex) {
             throw new QuestionReadException("Error processing question list: ", ex);
         }
     }
 
-    private InputStream getFileFromResourceAsStream(String fileName) {
+    // Вопросы читаются из файла по мере потребления, стрим нужно закрыть после использования
+    @Override
+    public Stream<Question> streamAll(String fileName) {
+
+        Reader reader = null;
+        try {
+            reader = new InputStreamReader(getFileFromResourceAsStream(fileName), StandardCharsets.UTF_8);
+            var questions = new QuestionIterator(createCsvToBean(reader).iterator());
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(questions,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(closeAction(reader));
+
+        } catch (RuntimeException ex) {
+            if (reader != null) {
+                closeAction(reader).run();
+            }
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
 
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream(fileName);
+    private CsvToBean<QuestionDto> createCsvToBean(Reader reader) {
+
+        ColumnPositionMappingStrategy<QuestionDto> strategy = new ColumnPositionMappingStrategy<>();
+        strategy.setType(QuestionDto.class);
+        return new CsvToBeanBuilder<QuestionDto>(reader)
+                .withSeparator(';')
+                .withSkipLines(1)
+                .withMappingStrategy(strategy)
+                .build();
+    }
+
+    private static final class QuestionIterator implements Iterator<Question> {
+
+        private final Iterator<QuestionDto> dtoIterator;
+
+        private int index;
+
+        QuestionIterator(Iterator<QuestionDto> dtoIterator) {
+            this.dtoIterator = dtoIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return dtoIterator.hasNext();
+            } catch (RuntimeException ex) {
+                throw new QuestionReadException("Error processing question list: ", ex);
+            }
+        }
 
-        if (inputStream == null) {
-            throw new IllegalArgumentException("file not found! " + fileName);
-        } else {
-            return inputStream;
+        @Override
+        public Question next() {
+            try {
+                return dtoIterator.next().toDomainObject(index++);
+            } catch (RuntimeException ex) {
+                throw new QuestionReadException("Error processing question list: ", ex);
+            }
         }
     }
 }
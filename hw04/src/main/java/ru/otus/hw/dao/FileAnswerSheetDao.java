@@ -0,0 +1,33 @@
+package ru.otus.hw.dao;
+
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.dao.parser.AnswerSheetParser;
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+@Repository
+public class FileAnswerSheetDao implements AnswerSheetDao {
+
+    // Стрим нужно закрыть после использования
+    @Override
+    public Stream<AnswerSheet> streamAll(String fileName) {
+        try {
+            var channel = FileChannel.open(toPath(fileName), StandardOpenOption.READ);
+            return new AnswerSheetParser(channel).stream();
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error opening answer file: " + fileName, ex);
+        }
+    }
+
+    private static Path toPath(String fileName) {
+        return fileName.startsWith(MappedFileQuestionDao.FILE_PREFIX)
+                ? MappedFileQuestionDao.toPath(fileName)
+                : Path.of(fileName);
+    }
+}
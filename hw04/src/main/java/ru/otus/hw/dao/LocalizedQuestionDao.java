@@ -0,0 +1,16 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public interface LocalizedQuestionDao extends QuestionDao {
+    List<Question> findAll(Locale locale);
+
+    Stream<Question> streamAll(Locale locale);
+
+    // Банк, уже загруженный в память, без чтения файла; пустой список, если его там нет
+    List<Question> findLoaded(Locale locale);
+}
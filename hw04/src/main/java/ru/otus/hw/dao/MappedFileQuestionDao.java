@@ -0,0 +1,80 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.dao.parser.MappedFileReader;
+import ru.otus.hw.dao.parser.QuestionCsvParser;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Repository
+public class MappedFileQuestionDao implements QuestionFileDao {
+
+    public static final String FILE_PREFIX = "file:";
+
+    private final TestFileNameProvider fileNameProvider;
+
+    @Override
+    public boolean supports(String fileName) {
+        return fileName.startsWith(FILE_PREFIX);
+    }
+
+    @Override
+    public List<Question> findAll() {
+        return findAll(fileNameProvider.getTestFileName());
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        return streamAll(fileNameProvider.getTestFileName());
+    }
+
+    @Override
+    public List<Question> findAll(String fileName) {
+
+        try (var parser = createParser(fileName)) {
+
+            return parser.readAll();
+
+        } catch (RuntimeException | IOException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    @Override
+    public Stream<Question> streamAll(String fileName) {
+        return createParser(fileName).stream();
+    }
+
+    @Override
+    public long getLastModified(String fileName) {
+        try {
+            return Files.getLastModifiedTime(toPath(fileName)).toMillis();
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error reading question file attributes: ", ex);
+        }
+    }
+
+    private QuestionCsvParser createParser(String fileName) {
+        try {
+            var channel = FileChannel.open(toPath(fileName), StandardOpenOption.READ);
+            return new QuestionCsvParser(new MappedFileReader(channel));
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    public static Path toPath(String fileName) {
+        return Path.of(fileName.substring(FILE_PREFIX.length()));
+    }
+}
@@ -0,0 +1,49 @@
+package ru.otus.hw.dao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.dao.parser.QuestionCsvParser;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+@ConditionalOnProperty(prefix = "test", name = "csvParser", havingValue = "plain")
+@Repository
+public class PlainCsvQuestionDao extends ClassPathQuestionDao {
+
+    public PlainCsvQuestionDao(TestFileNameProvider fileNameProvider) {
+        super(fileNameProvider);
+    }
+
+    @Override
+    public List<Question> findAll(String fileName) {
+
+        try (var parser = createParser(fileName)) {
+
+            return parser.readAll();
+
+        } catch (RuntimeException | IOException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    @Override
+    public Stream<Question> streamAll(String fileName) {
+        return createParser(fileName).stream();
+    }
+
+    private QuestionCsvParser createParser(String fileName) {
+        try {
+            return new QuestionCsvParser(
+                    new InputStreamReader(getFileFromResourceAsStream(fileName), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+import java.util.Locale;
+
+public record QuestionBankStats(Locale locale, String fileName, int questionCount, long loadTimeMillis,
+                                long estimatedBytes) {
+
+    private static final int OBJECT_HEADER = 12;
+
+    private static final int REFERENCE = 4;
+
+    private static final int INT = 4;
+
+    private static final int STRING_OBJECT = 24;
+
+    private static final int ARRAY_HEADER = 16;
+
+    // Оценка занимаемой памяти для 64-битной JVM со сжатыми указателями и компактными строками
+    public static long estimateBytes(List<Question> questions) {
+        long bytes = align(ARRAY_HEADER + (long) REFERENCE * questions.size());
+        for (Question question : questions) {
+            bytes += align(OBJECT_HEADER + 2 * REFERENCE + 2 * INT) + estimateBytes(question.text());
+            bytes += align(ARRAY_HEADER + (long) REFERENCE * question.answers().size());
+            for (Answer answer : question.answers()) {
+                bytes += align(OBJECT_HEADER + REFERENCE + 1) + estimateBytes(answer.text());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return STRING_OBJECT + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
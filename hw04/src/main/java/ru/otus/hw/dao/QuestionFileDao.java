@@ -0,0 +1,16 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface QuestionFileDao extends QuestionDao {
+    boolean supports(String fileName);
+
+    List<Question> findAll(String fileName);
+
+    Stream<Question> streamAll(String fileName);
+
+    long getLastModified(String fileName);
+}
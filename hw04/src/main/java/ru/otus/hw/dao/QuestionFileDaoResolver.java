@@ -0,0 +1,23 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class QuestionFileDaoResolver {
+
+    private final List<QuestionFileDao> questionFileDaos;
+
+    public QuestionFileDao resolve(String fileName) {
+        for (var questionFileDao : questionFileDaos) {
+            if (questionFileDao.supports(fileName)) {
+                return questionFileDao;
+            }
+        }
+        throw new QuestionReadException("Unsupported question file: " + fileName);
+    }
+}
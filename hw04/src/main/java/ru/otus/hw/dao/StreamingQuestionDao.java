@@ -0,0 +1,64 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import ru.otus.hw.config.LocalizedTestFileNameProvider;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Primary
+@ConditionalOnProperty(prefix = "test", name = "streamQuestions", havingValue = "true")
+@RequiredArgsConstructor
+@Repository
+public class StreamingQuestionDao implements LocalizedQuestionDao {
+
+    private final TestFileNameProvider fileNameProvider;
+
+    private final LocalizedTestFileNameProvider localizedFileNameProvider;
+
+    private final QuestionFileDaoResolver questionFileDaoResolver;
+
+    @Override
+    public List<Question> findAll() {
+        var fileName = fileNameProvider.getTestFileName();
+        return questionFileDaoResolver.resolve(fileName).findAll(fileName);
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        var fileName = fileNameProvider.getTestFileName();
+        return questionFileDaoResolver.resolve(fileName).streamAll(fileName);
+    }
+
+    @Override
+    public List<Question> findAll(Locale locale) {
+        var fileName = getFileName(locale);
+        return questionFileDaoResolver.resolve(fileName).findAll(fileName);
+    }
+
+    @Override
+    public Stream<Question> streamAll(Locale locale) {
+        var fileName = getFileName(locale);
+        return questionFileDaoResolver.resolve(fileName).streamAll(fileName);
+    }
+
+    @Override
+    public List<Question> findLoaded(Locale locale) {
+        return List.of();
+    }
+
+    private String getFileName(Locale locale) {
+        var fileName = localizedFileNameProvider.getTestFileName(locale);
+        if (fileName == null) {
+            throw new QuestionReadException("No question file for locale " + locale.toLanguageTag());
+        }
+        return fileName;
+    }
+}
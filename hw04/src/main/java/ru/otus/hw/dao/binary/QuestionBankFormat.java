@@ -0,0 +1,38 @@
+package ru.otus.hw.dao.binary;
+
+/**
+ * Бинарный формат банка вопросов (big-endian):
+ * <pre>
+ * int magic, int version, int questionCount
+ * для каждого вопроса:
+ *   string text, int difficulty, short answerCount, byte[(answerCount + 7) / 8] correctAnswers,
+ *   string[answerCount] answers
+ * string = int byteLength + байты UTF-8
+ * </pre>
+ * Бит i в correctAnswers выставлен, если ответ i правильный. В версии 1 поля difficulty нет.
+ */
+public final class QuestionBankFormat {
+
+    public static final String FILE_EXTENSION = ".qbank";
+
+    public static final int MAGIC = 0x51424E4B;
+
+    public static final int VERSION = 2;
+
+    public static final int MIN_VERSION = 1;
+
+    public static final int DIFFICULTY_VERSION = 2;
+
+    public static final int QUESTION_COUNT_OFFSET = 8;
+
+    public static final int HEADER_SIZE = 12;
+
+    public static final int MAX_ANSWERS = Short.MAX_VALUE;
+
+    private QuestionBankFormat() {
+    }
+
+    public static int bitSetSize(int answerCount) {
+        return (answerCount + 7) / 8;
+    }
+}
@@ -0,0 +1,113 @@
+package ru.otus.hw.dao.binary;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class QuestionBankReader implements Iterator<Question> {
+
+    private final ByteBuffer buffer;
+
+    private final int questionCount;
+
+    private final boolean hasDifficulty;
+
+    private int questionsRead;
+
+    public QuestionBankReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt() != QuestionBankFormat.MAGIC) {
+                throw new QuestionReadException("Not a question bank file");
+            }
+            int version = buffer.getInt();
+            if (version < QuestionBankFormat.MIN_VERSION || version > QuestionBankFormat.VERSION) {
+                throw new QuestionReadException("Unsupported question bank version: " + version);
+            }
+            this.hasDifficulty = version >= QuestionBankFormat.DIFFICULTY_VERSION;
+            this.questionCount = buffer.getInt();
+        } catch (BufferUnderflowException ex) {
+            throw new QuestionReadException("Question bank header is truncated", ex);
+        }
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return questionsRead < questionCount;
+    }
+
+    @Override
+    public Question next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            var question = readQuestion();
+            questionsRead++;
+            return question;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new QuestionReadException("Question bank is truncated at question " + questionsRead, ex);
+        }
+    }
+
+    public List<Question> readAll() {
+        List<Question> questions = new ArrayList<>(questionCount - questionsRead);
+        forEachRemaining(questions::add);
+        return Collections.unmodifiableList(questions);
+    }
+
+    public Stream<Question> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(this, questionCount - questionsRead,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private Question readQuestion() {
+        var text = readString();
+        int difficulty = hasDifficulty ? buffer.getInt() : Question.DEFAULT_DIFFICULTY;
+        int answerCount = buffer.getShort();
+        int bitSetPosition = buffer.position();
+        buffer.position(bitSetPosition + QuestionBankFormat.bitSetSize(answerCount));
+
+        var answers = new Answer[answerCount];
+        for (int i = 0; i < answerCount; i++) {
+            boolean isCorrect = (buffer.get(bitSetPosition + (i >>> 3)) & (1 << (i & 7))) != 0;
+            answers[i] = new Answer(readString(), isCorrect);
+        }
+        return new Question(text, List.of(answers), difficulty, questionsRead);
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+        } else {
+            var bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.otus.hw.dao.binary;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+public final class QuestionBankWriter {
+
+    private QuestionBankWriter() {
+    }
+
+    // Число вопросов дописывается в заголовок после записи всех вопросов
+    public static int write(Iterator<Question> questions, Path target) throws IOException {
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(QuestionBankFormat.MAGIC);
+            out.writeInt(QuestionBankFormat.VERSION);
+            out.writeInt(0);
+
+            int count = 0;
+            while (questions.hasNext()) {
+                writeQuestion(out, questions.next());
+                count++;
+            }
+            out.flush();
+
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(count).flip(),
+                    QuestionBankFormat.QUESTION_COUNT_OFFSET);
+            return count;
+        }
+    }
+
+    private static void writeQuestion(DataOutputStream out, Question question) throws IOException {
+        var answers = question.answers();
+        if (answers.size() > QuestionBankFormat.MAX_ANSWERS) {
+            throw new IllegalArgumentException("Too many answers for question: " + question.text());
+        }
+
+        writeString(out, question.text());
+        out.writeInt(question.difficulty());
+        out.writeShort(answers.size());
+
+        var correctAnswers = new byte[QuestionBankFormat.bitSetSize(answers.size())];
+        for (int i = 0; i < answers.size(); i++) {
+            if (answers.get(i).isCorrect()) {
+                correctAnswers[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(correctAnswers);
+
+        for (Answer answer : answers) {
+            writeString(out, answer.text());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
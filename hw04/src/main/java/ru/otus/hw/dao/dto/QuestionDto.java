@@ -19,7 +19,10 @@ public class QuestionDto {
             converter = AnswerCsvConverter.class, splitOn = "\\|")
     private List<Answer> answers;
 
-    public Question toDomainObject() {
-        return new Question(text, answers);
+    @CsvBindByPosition(position = 2)
+    private int difficulty = Question.DEFAULT_DIFFICULTY;
+
+    public Question toDomainObject(int index) {
+        return new Question(text, List.copyOf(answers), difficulty, index);
     }
 }
@@ -0,0 +1,81 @@
+package ru.otus.hw.dao.journal;
+
+import java.nio.file.Path;
+
+/**
+ * Формат сегмента журнала результатов (big-endian):
+ * <pre>
+ * заголовок: int magic, int version, int recordSize, int segmentRecords, дополненный нулями до RECORD_SIZE
+ * записи фиксированного размера:
+ *   int marker, int rightAnswersCount, int answeredCount, int reserved, long timestamp, long studentNameHash
+ * </pre>
+ * marker пишется последним, поэтому запись с нулевым marker считается незаписанной.
+ */
+public final class ResultJournalFormat {
+
+    public static final int MAGIC = 0x524A524E;
+
+    public static final int VERSION = 2;
+
+    public static final int HEADER_SIZE = 32;
+
+    public static final int RECORD_SIZE = 32;
+
+    public static final int RECORD_MARKER = 0x52534C54;
+
+    static final int RIGHT_ANSWERS_OFFSET = 4;
+
+    static final int ANSWERED_OFFSET = 8;
+
+    static final int TIMESTAMP_OFFSET = 16;
+
+    static final int NAME_HASH_OFFSET = 24;
+
+    private static final String SEGMENT_PREFIX = "results-";
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ResultJournalFormat() {
+    }
+
+    public static long segmentSize(int segmentRecords) {
+        return offsetOf(segmentRecords);
+    }
+
+    public static long offsetOf(int recordNumber) {
+        return HEADER_SIZE + (long) recordNumber * RECORD_SIZE;
+    }
+
+    public static Path segmentPath(Path directory, int segmentNumber) {
+        return directory.resolve(SEGMENT_PREFIX + "%08d".formatted(segmentNumber) + SEGMENT_SUFFIX);
+    }
+
+    // Номер сегмента по имени файла, -1 если файл не сегмент журнала
+    public static int segmentNumber(Path file) {
+        var fileName = file.getFileName().toString();
+        if (!fileName.startsWith(SEGMENT_PREFIX) || !fileName.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(fileName, SEGMENT_PREFIX.length(),
+                    fileName.length() - SEGMENT_SUFFIX.length(), 10);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    // 64-битный FNV-1a по символам имени
+    public static long hashName(String name) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
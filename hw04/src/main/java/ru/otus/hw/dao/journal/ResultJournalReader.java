@@ -0,0 +1,109 @@
+package ru.otus.hw.dao.journal;
+
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.exceptions.ResultJournalException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class ResultJournalReader {
+
+    private ResultJournalReader() {
+    }
+
+    public static Stream<ResultRecord> stream(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return Stream.empty();
+        }
+        return findSegments(directory).stream().flatMap(ResultJournalReader::streamSegment);
+    }
+
+    static List<Path> findSegments(Path directory) {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> ResultJournalFormat.segmentNumber(file) >= 0)
+                    .sorted(Comparator.comparingInt(ResultJournalFormat::segmentNumber))
+                    .toList();
+        } catch (IOException ex) {
+            throw new ResultJournalException("Error listing result journal " + directory, ex);
+        }
+    }
+
+    static int readSegmentRecords(FileChannel channel, Path path) throws IOException {
+        var header = ByteBuffer.allocate(ResultJournalFormat.HEADER_SIZE);
+        int read;
+        do {
+            read = channel.read(header, header.position());
+        } while (read > 0 && header.hasRemaining());
+        header.flip();
+        if (header.remaining() < ResultJournalFormat.HEADER_SIZE
+                || header.getInt() != ResultJournalFormat.MAGIC) {
+            throw new ResultJournalException("Not a result journal segment: " + path);
+        }
+        int version = header.getInt();
+        int recordSize = header.getInt();
+        if (version != ResultJournalFormat.VERSION || recordSize != ResultJournalFormat.RECORD_SIZE) {
+            throw new ResultJournalException("Unsupported result journal segment version: " + version);
+        }
+        int records = header.getInt();
+        if (records <= 0 || channel.size() < ResultJournalFormat.segmentSize(records)) {
+            throw new ResultJournalException("Result journal segment is truncated: " + path);
+        }
+        return records;
+    }
+
+    private static Stream<ResultRecord> streamSegment(Path path) {
+        MappedByteBuffer segment;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int records = readSegmentRecords(channel, path);
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, ResultJournalFormat.segmentSize(records));
+        } catch (IOException ex) {
+            throw new ResultJournalException("Error reading result journal segment " + path, ex);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new SegmentIterator(segment),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    private static final class SegmentIterator implements Iterator<ResultRecord> {
+
+        private final ByteBuffer segment;
+
+        private int offset = ResultJournalFormat.HEADER_SIZE;
+
+        SegmentIterator(ByteBuffer segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return offset + ResultJournalFormat.RECORD_SIZE <= segment.limit()
+                    && segment.getInt(offset) == ResultJournalFormat.RECORD_MARKER;
+        }
+
+        @Override
+        public ResultRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var record = new ResultRecord(
+                    segment.getLong(offset + ResultJournalFormat.TIMESTAMP_OFFSET),
+                    segment.getLong(offset + ResultJournalFormat.NAME_HASH_OFFSET),
+                    segment.getInt(offset + ResultJournalFormat.RIGHT_ANSWERS_OFFSET),
+                    segment.getInt(offset + ResultJournalFormat.ANSWERED_OFFSET));
+            offset += ResultJournalFormat.RECORD_SIZE;
+            return record;
+        }
+    }
+}
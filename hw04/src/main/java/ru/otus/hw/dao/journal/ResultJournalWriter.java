@@ -0,0 +1,110 @@
+package ru.otus.hw.dao.journal;
+
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.exceptions.ResultJournalException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Дозапись в журнал результатов через отображенные в память сегменты, не потокобезопасна.
+ */
+public class ResultJournalWriter implements Closeable {
+
+    private final Path directory;
+
+    private final int segmentRecords;
+
+    private int segmentNumber;
+
+    private MappedByteBuffer segment;
+
+    private long appendedCount;
+
+    private ResultJournalWriter(Path directory, int segmentRecords) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+    }
+
+    public static ResultJournalWriter open(Path directory, int segmentRecords) {
+        if (segmentRecords <= 0) {
+            throw new IllegalArgumentException("Segment must hold at least one record");
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new ResultJournalException("Error creating result journal directory " + directory, ex);
+        }
+        var writer = new ResultJournalWriter(directory, segmentRecords);
+        var segments = ResultJournalReader.findSegments(directory);
+        var lastSegment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        writer.mapSegment(lastSegment == null ? 1 : ResultJournalFormat.segmentNumber(lastSegment));
+        return writer;
+    }
+
+    // Групповая фиксация: вся пачка записывается и сбрасывается на диск одним force
+    public void append(List<ResultRecord> records) {
+        for (ResultRecord record : records) {
+            if (!segment.hasRemaining()) {
+                segment.force();
+                mapSegment(segmentNumber + 1);
+            }
+            writeRecord(record);
+        }
+        segment.force();
+    }
+
+    public long getAppendedCount() {
+        return appendedCount;
+    }
+
+    @Override
+    public void close() {
+        segment.force();
+    }
+
+    private void writeRecord(ResultRecord record) {
+        int offset = segment.position();
+        segment.putInt(offset + ResultJournalFormat.RIGHT_ANSWERS_OFFSET, record.rightAnswersCount());
+        segment.putInt(offset + ResultJournalFormat.ANSWERED_OFFSET, record.answeredCount());
+        segment.putLong(offset + ResultJournalFormat.TIMESTAMP_OFFSET, record.timestamp());
+        segment.putLong(offset + ResultJournalFormat.NAME_HASH_OFFSET, record.studentNameHash());
+        segment.putInt(offset, ResultJournalFormat.RECORD_MARKER);
+        segment.position(offset + ResultJournalFormat.RECORD_SIZE);
+        appendedCount++;
+    }
+
+    private void mapSegment(int number) {
+        var path = ResultJournalFormat.segmentPath(directory, number);
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+
+            boolean created = channel.size() == 0;
+            int records = created ? segmentRecords : ResultJournalReader.readSegmentRecords(channel, path);
+            // Отображение остается действительным и после закрытия канала
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, ResultJournalFormat.segmentSize(records));
+            if (created) {
+                segment.putInt(ResultJournalFormat.MAGIC)
+                        .putInt(ResultJournalFormat.VERSION)
+                        .putInt(ResultJournalFormat.RECORD_SIZE)
+                        .putInt(records)
+                        .position(ResultJournalFormat.HEADER_SIZE);
+            } else {
+                segment.position(ResultJournalFormat.HEADER_SIZE);
+                while (segment.hasRemaining()
+                        && segment.getInt(segment.position()) == ResultJournalFormat.RECORD_MARKER) {
+                    segment.position(segment.position() + ResultJournalFormat.RECORD_SIZE);
+                }
+            }
+            segmentNumber = number;
+        } catch (IOException ex) {
+            throw new ResultJournalException("Error opening result journal segment " + path, ex);
+        }
+    }
+}
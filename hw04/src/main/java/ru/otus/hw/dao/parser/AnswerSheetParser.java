@@ -0,0 +1,216 @@
+package ru.otus.hw.dao.parser;
+
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Разбор файла бланков ответов по байтам из канала. Строка - имя;фамилия;ответы через запятую:
+ * <pre>Ivan;Petrov;1,3,2,4</pre>
+ */
+public class AnswerSheetParser implements Iterator<AnswerSheet>, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final int MAX_DIGITS = 9;
+
+    private static final byte FIELD_SEPARATOR = ';';
+
+    private static final byte ANSWER_SEPARATOR = ',';
+
+    private static final byte COMMENT = '#';
+
+    private final ReadableByteChannel channel;
+
+    private ByteBuffer buffer;
+
+    private int[] answers = new int[64];
+
+    private boolean endOfInput;
+
+    private int lineNumber;
+
+    private AnswerSheet next;
+
+    public AnswerSheetParser(ReadableByteChannel channel) {
+        this(channel, BUFFER_SIZE);
+    }
+
+    AnswerSheetParser(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        buffer.limit(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readSheet();
+        }
+        return next != null;
+    }
+
+    @Override
+    public AnswerSheet next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var sheet = next;
+        next = null;
+        return sheet;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public Stream<AnswerSheet> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException ex) {
+                        throw new QuestionReadException("Error closing answer file: ", ex);
+                    }
+                });
+    }
+
+    private AnswerSheet readSheet() {
+        try {
+            while (true) {
+                int lineEnd = findLineEnd();
+                if (lineEnd < 0) {
+                    return null;
+                }
+                int lineStart = buffer.position();
+                buffer.position(Math.min(lineEnd + 1, buffer.limit()));
+                lineNumber++;
+
+                int end = lineEnd;
+                if (end > lineStart && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (end > lineStart && buffer.get(lineStart) != COMMENT && !isBlank(lineStart, end)) {
+                    return parseLine(lineStart, end);
+                }
+            }
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error reading answer file: ", ex);
+        }
+    }
+
+    // Индекс '\n' (или конца данных для последней строки без перевода строки), -1 если данных больше нет
+    private int findLineEnd() throws IOException {
+        int scanFrom = buffer.position();
+        while (true) {
+            var bytes = buffer.array();
+            for (int i = scanFrom; i < buffer.limit(); i++) {
+                if (bytes[i] == '\n') {
+                    return i;
+                }
+            }
+            if (endOfInput) {
+                return buffer.hasRemaining() ? buffer.limit() : -1;
+            }
+            scanFrom = buffer.remaining();
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+        }
+        int count = channel.read(buffer);
+        endOfInput = count < 0;
+        buffer.flip();
+    }
+
+    private AnswerSheet parseLine(int start, int end) {
+        var bytes = buffer.array();
+        int firstSeparator = indexOf(bytes, start, end, FIELD_SEPARATOR);
+        int secondSeparator = firstSeparator < 0 ? -1 : indexOf(bytes, firstSeparator + 1, end, FIELD_SEPARATOR);
+        if (secondSeparator < 0) {
+            return AnswerSheet.malformed(lineNumber);
+        }
+        var firstName = new String(bytes, start, firstSeparator - start, StandardCharsets.UTF_8).strip();
+        var lastName = new String(bytes, firstSeparator + 1, secondSeparator - firstSeparator - 1,
+                StandardCharsets.UTF_8).strip();
+
+        int count = 0;
+        if (!isBlank(secondSeparator + 1, end)) {
+            int fieldStart = secondSeparator + 1;
+            while (fieldStart <= end) {
+                int fieldEnd = indexOf(bytes, fieldStart, end, ANSWER_SEPARATOR);
+                if (fieldEnd < 0) {
+                    fieldEnd = end;
+                }
+                if (count == answers.length) {
+                    answers = Arrays.copyOf(answers, count * 2);
+                }
+                answers[count++] = parseAnswer(bytes, fieldStart, fieldEnd);
+                fieldStart = fieldEnd + 1;
+            }
+        }
+        return new AnswerSheet(lineNumber, new Student(firstName, lastName), Arrays.copyOf(answers, count));
+    }
+
+    private static int parseAnswer(byte[] bytes, int start, int end) {
+        while (start < end && isWhitespace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        if (start == end || end - start > MAX_DIGITS) {
+            return AnswerSheet.NO_ANSWER;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return AnswerSheet.NO_ANSWER;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
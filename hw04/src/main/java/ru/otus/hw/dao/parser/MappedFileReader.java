@@ -0,0 +1,98 @@
+package ru.otus.hw.dao.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Декодирует UTF-8 из отображенного в память файла, большие файлы отображаются окнами.
+ */
+public class MappedFileReader extends Reader {
+
+    private static final long DEFAULT_REGION_SIZE = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final long regionSize;
+
+    private final long size;
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    // Символ вне BMP декодируется в пару char, в буфер из одного char вторая половина уходит следующим вызовом
+    private final CharBuffer pending = CharBuffer.allocate(2).flip();
+
+    private MappedByteBuffer region;
+
+    private long regionStart;
+
+    public MappedFileReader(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_REGION_SIZE);
+    }
+
+    MappedFileReader(FileChannel channel, long regionSize) throws IOException {
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.size = channel.size();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!pending.hasRemaining() && len == 1) {
+            pending.clear();
+            int count = decode(pending);
+            pending.flip();
+            if (count == -1) {
+                return -1;
+            }
+        }
+        if (pending.hasRemaining()) {
+            cbuf[off] = pending.get();
+            return 1;
+        }
+        return decode(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int decode(CharBuffer out) throws IOException {
+        if (region == null) {
+            map(0);
+        }
+        int start = out.position();
+        while (true) {
+            boolean lastRegion = regionStart + region.capacity() == size;
+            CoderResult result = decoder.decode(region, out, lastRegion);
+            if (result.isError()) {
+                result.throwException();
+            }
+            int count = out.position() - start;
+            if (count > 0) {
+                return count;
+            }
+            if (lastRegion) {
+                return -1;
+            }
+            map(regionStart + region.position());
+        }
+    }
+
+    private void map(long start) throws IOException {
+        regionStart = start;
+        region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, size - start));
+    }
+}
@@ -0,0 +1,292 @@
+package ru.otus.hw.dao.parser;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Посимвольный разбор файла вопросов в формате CsvQuestionDao, без OpenCSV и регулярных выражений.
+ */
+public class QuestionCsvParser implements Iterator<Question>, Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char FIELD_SEPARATOR = ';';
+
+    private static final char ANSWER_SEPARATOR = '|';
+
+    private static final char CORRECTNESS_SEPARATOR = '%';
+
+    private static final char QUOTE = '"';
+
+    private static final String TRUE = "true";
+
+    private static final int MAX_DIFFICULTY_DIGITS = 9;
+
+    private static final int END_OF_INPUT = -1;
+
+    private static final int END_OF_FIELD = -2;
+
+    private static final int END_OF_RECORD = -3;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private final StringBuilder token = new StringBuilder();
+
+    private int position;
+
+    private int limit;
+
+    private boolean endOfInput;
+
+    private boolean headerSkipped;
+
+    private boolean quoted;
+
+    private boolean fieldStart;
+
+    private int recordNumber;
+
+    private int questionIndex;
+
+    private Question next;
+
+    public QuestionCsvParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !endOfInput) {
+            next = readQuestion();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Question next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var question = next;
+        next = null;
+        return question;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public List<Question> readAll() {
+        List<Question> questions = new ArrayList<>();
+        forEachRemaining(questions::add);
+        return Collections.unmodifiableList(questions);
+    }
+
+    public Stream<Question> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException ex) {
+                        throw new QuestionReadException("Error closing question file: ", ex);
+                    }
+                });
+    }
+
+    private Question readQuestion() {
+        try {
+            if (!headerSkipped) {
+                skipLine();
+                headerSkipped = true;
+            }
+            while (!endOfInput) {
+                var question = readRecord();
+                if (question != null) {
+                    return question;
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error processing question list: ", ex);
+        }
+    }
+
+    private Question readRecord() throws IOException {
+        recordNumber++;
+        fieldStart = true;
+        token.setLength(0);
+
+        int c = readFieldChar();
+        if (c == END_OF_RECORD) {
+            return null;
+        }
+        while (c >= 0) {
+            token.append((char) c);
+            c = readFieldChar();
+        }
+        if (c == END_OF_RECORD) {
+            throw new QuestionReadException("Question has no answers, record " + recordNumber);
+        }
+        var text = token.toString();
+
+        var answers = new ArrayList<Answer>(4);
+        c = readAnswers(answers);
+        var difficulty = c == END_OF_FIELD ? readDifficulty() : Question.DEFAULT_DIFFICULTY;
+        return new Question(text, List.copyOf(answers), difficulty, questionIndex++);
+    }
+
+    private int readDifficulty() throws IOException {
+        int difficulty = 0;
+        int digits = 0;
+        boolean negative = false;
+        int c = readFieldChar();
+        while (c >= 0) {
+            if (c == '-' && digits == 0 && !negative) {
+                negative = true;
+            } else if (c >= '0' && c <= '9' && digits < MAX_DIFFICULTY_DIGITS) {
+                difficulty = difficulty * 10 + (c - '0');
+                digits++;
+            } else if (!Character.isWhitespace(c)) {
+                throw new QuestionReadException("Invalid question difficulty, record " + recordNumber);
+            }
+            c = readFieldChar();
+        }
+        while (c != END_OF_RECORD) {
+            c = readFieldChar();
+        }
+        if (digits == 0) {
+            return Question.DEFAULT_DIFFICULTY;
+        }
+        return negative ? -difficulty : difficulty;
+    }
+
+    private int readAnswers(List<Answer> answers) throws IOException {
+        int c;
+        do {
+            token.setLength(0);
+            c = readFieldChar();
+            while (c >= 0 && c != CORRECTNESS_SEPARATOR) {
+                token.append((char) c);
+                c = readFieldChar();
+            }
+            if (c < 0) {
+                if (token.isEmpty() && !answers.isEmpty()) {
+                    return c;
+                }
+                throw new QuestionReadException("Answer has no correctness flag, record " + recordNumber);
+            }
+            var answerText = token.toString();
+
+            int matched = 0;
+            boolean isCorrect = true;
+            boolean flagEnded = false;
+            c = readFieldChar();
+            while (c >= 0 && c != ANSWER_SEPARATOR) {
+                if (c == CORRECTNESS_SEPARATOR) {
+                    flagEnded = true;
+                } else if (!flagEnded) {
+                    isCorrect = isCorrect && matched < TRUE.length()
+                            && Character.toLowerCase((char) c) == TRUE.charAt(matched);
+                    matched++;
+                }
+                c = readFieldChar();
+            }
+            answers.add(new Answer(answerText, isCorrect && matched == TRUE.length()));
+        } while (c == ANSWER_SEPARATOR);
+        return c;
+    }
+
+    private int readFieldChar() throws IOException {
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == END_OF_INPUT) {
+                    throw new QuestionReadException("Unterminated quoted field, record " + recordNumber);
+                }
+                if (c != QUOTE) {
+                    return c;
+                }
+                if (peek() == QUOTE) {
+                    position++;
+                    return QUOTE;
+                }
+                quoted = false;
+                continue;
+            }
+            if (c == QUOTE && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+                continue;
+            }
+            fieldStart = false;
+            switch (c) {
+                case FIELD_SEPARATOR:
+                    fieldStart = true;
+                    return END_OF_FIELD;
+                case '\r':
+                    if (peek() == '\n') {
+                        position++;
+                    }
+                    return END_OF_RECORD;
+                case '\n':
+                case END_OF_INPUT:
+                    return END_OF_RECORD;
+                default:
+                    return c;
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int c = read();
+        while (c != '\n' && c != '\r' && c != END_OF_INPUT) {
+            c = read();
+        }
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_INPUT;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_INPUT;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int count = reader.read(buffer, 0, BUFFER_SIZE);
+        position = 0;
+        limit = Math.max(count, 0);
+        endOfInput = count < 0;
+        return count > 0;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.otus.hw.domain;
+
+/**
+ * Бланк ответов: answers[i] - номер ответа на i-й вопрос (с 1), у неразобранной строки student = null.
+ */
+public record AnswerSheet(int lineNumber, Student student, int[] answers) {
+
+    public static final int NO_ANSWER = 0;
+
+    private static final int[] EMPTY = new int[0];
+
+    public static AnswerSheet malformed(int lineNumber) {
+        return new AnswerSheet(lineNumber, null, EMPTY);
+    }
+
+    public boolean isMalformed() {
+        return student == null;
+    }
+}
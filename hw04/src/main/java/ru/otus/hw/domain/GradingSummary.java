@@ -0,0 +1,9 @@
+package ru.otus.hw.domain;
+
+public record GradingSummary(long sheetsCount, long passedCount, long answersCount, long invalidAnswersCount,
+                             long malformedLinesCount, long journalDroppedCount, long elapsedMillis) {
+
+    public long sheetsPerSecond() {
+        return sheetsCount * 1000 / Math.max(1, elapsedMillis);
+    }
+}
@@ -2,5 +2,19 @@ package ru.otus.hw.domain;
 
 import java.util.List;
 
-public record Question(String text, List<Answer> answers) {
+public record Question(String text, List<Answer> answers, int difficulty, int index) {
+
+    // Сложность задается необязательной третьей колонкой файла вопросов
+    public static final int DEFAULT_DIFFICULTY = 0;
+
+    // Вопрос создан не из банка, в статистику не попадает
+    public static final int NO_INDEX = -1;
+
+    public Question(String text, List<Answer> answers) {
+        this(text, answers, DEFAULT_DIFFICULTY, NO_INDEX);
+    }
+
+    public Question(String text, List<Answer> answers, int difficulty) {
+        this(text, answers, difficulty, NO_INDEX);
+    }
 }
@@ -0,0 +1,11 @@
+package ru.otus.hw.domain;
+
+import java.util.Locale;
+
+public record QuestionStatistics(Locale locale, int questionIndex, String text, long askedCount, long rightCount) {
+
+    // Номер для отчетов, как его видит студент (с единицы)
+    public int questionNumber() {
+        return questionIndex + 1;
+    }
+}
@@ -0,0 +1,4 @@
+package ru.otus.hw.domain;
+
+public record ResultRecord(long timestamp, long studentNameHash, int rightAnswersCount, int answeredCount) {
+}
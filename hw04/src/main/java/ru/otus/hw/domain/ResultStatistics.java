@@ -0,0 +1,10 @@
+package ru.otus.hw.domain;
+
+import java.util.List;
+
+/**
+ * Сводка по всем сессиям. scoreHistogram[i] - число сессий с i верными ответами.
+ */
+public record ResultStatistics(long sessionsCount, long passedCount, long[] scoreHistogram,
+                               List<QuestionStatistics> questions) {
+}
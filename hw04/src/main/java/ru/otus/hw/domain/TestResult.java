@@ -1,27 +1,49 @@
 package ru.otus.hw.domain;
 
-import lombok.Data;
+import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
 
-@Data
 public class TestResult {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Getter
     private final Student student;
 
-    private final List<Question> answeredQuestions;
+    private final BitSet rightAnswers = new BitSet();
+
+    private int[] questionIndices = new int[INITIAL_CAPACITY];
 
+    @Getter
+    private int answeredCount;
+
+    @Getter
     private int rightAnswersCount;
 
     public TestResult(Student student) {
         this.student = student;
-        this.answeredQuestions = new ArrayList<>();
     }
 
     public void applyAnswer(Question question, boolean isRightAnswer) {
-        answeredQuestions.add(question);
+        if (answeredCount == questionIndices.length) {
+            questionIndices = Arrays.copyOf(questionIndices, answeredCount * 2);
+        }
+        questionIndices[answeredCount] = question.index();
         if (isRightAnswer) {
+            rightAnswers.set(answeredCount);
             rightAnswersCount++;
         }
+        answeredCount++;
+    }
+
+    // answer - порядковый номер ответа в сессии
+    public int getQuestionIndex(int answer) {
+        return questionIndices[answer];
+    }
+
+    public boolean isRightAnswer(int answer) {
+        return rightAnswers.get(answer);
     }
 }
@@ -0,0 +1,11 @@
+package ru.otus.hw.exceptions;
+
+public class ResultJournalException extends RuntimeException {
+    public ResultJournalException(String message, Throwable ex) {
+        super(message, ex);
+    }
+
+    public ResultJournalException(String message) {
+        super(message);
+    }
+}
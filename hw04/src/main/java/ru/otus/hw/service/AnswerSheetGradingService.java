@@ -0,0 +1,11 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.GradingSummary;
+
+import java.nio.file.Path;
+
+public interface AnswerSheetGradingService {
+    GradingSummary grade(String answerFileName);
+
+    GradingSummary grade(String answerFileName, Path resultFile);
+}
@@ -0,0 +1,224 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.QuestionSelectionConfig;
+import ru.otus.hw.config.QuestionSelectionMode;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.AnswerSheetDao;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.domain.GradingSummary;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.TestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class AnswerSheetGradingServiceImpl implements AnswerSheetGradingService {
+
+    // Пока одна пачка проверяется в ForkJoinPool, читается следующая
+    private static final int BATCH_SIZE = 8192;
+
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private static final String RESULT_HEADER = "# line;first name;last name;right answers;answered;passed";
+
+    private final TestService testService;
+
+    private final QuestionDao questionDao;
+
+    private final AnswerSheetDao answerSheetDao;
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    private final TestConfig testConfig;
+
+    private final QuestionSelectionConfig selectionConfig;
+
+    private final ResultAnalyticsService resultAnalyticsService;
+
+    private final ResultJournalService resultJournalService;
+
+    @Override
+    public GradingSummary grade(String answerFileName) {
+        try {
+            return grade(answerFileName, Writer.nullWriter());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public GradingSummary grade(String answerFileName, Path resultFile) {
+        try (var writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8)) {
+            writer.write(RESULT_HEADER);
+            writer.newLine();
+            return grade(answerFileName, writer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private GradingSummary grade(String answerFileName, Writer writer) throws IOException {
+        checkQuestionOrder();
+        var start = System.nanoTime();
+        var questions = questionDao.findAll();
+        var totals = new GradingTotals();
+        var journalDroppedBefore = resultJournalService.getDroppedCount();
+
+        try (var sheets = answerSheetDao.streamAll(answerFileName)) {
+            var iterator = sheets.iterator();
+            ForkJoinTask<?> pending = null;
+            GradedSheet[] pendingResults = null;
+            while (iterator.hasNext()) {
+                var batch = readBatch(iterator, totals);
+                var results = new GradedSheet[batch.size()];
+                var task = ForkJoinPool.commonPool().submit(new GradingTask(questions, batch, results, 0,
+                        batch.size()));
+                if (pending != null) {
+                    pending.join();
+                    writeResults(pendingResults, writer, totals);
+                }
+                pending = task;
+                pendingResults = results;
+            }
+            if (pending != null) {
+                pending.join();
+                writeResults(pendingResults, writer, totals);
+            }
+        }
+        writer.flush();
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new GradingSummary(totals.sheetsCount, totals.passedCount, totals.answersCount,
+                totals.invalidAnswersCount, totals.malformedLinesCount,
+                resultJournalService.getDroppedCount() - journalDroppedBefore, elapsedMillis);
+    }
+
+    private static List<AnswerSheet> readBatch(Iterator<AnswerSheet> iterator, GradingTotals totals) {
+        List<AnswerSheet> batch = new ArrayList<>(BATCH_SIZE);
+        while (batch.size() < BATCH_SIZE && iterator.hasNext()) {
+            var sheet = iterator.next();
+            if (sheet.isMalformed()) {
+                totals.malformedLinesCount++;
+            } else {
+                batch.add(sheet);
+            }
+        }
+        return batch;
+    }
+
+    // Журнал получает пачку целиком и при заполненной очереди придерживает чтение файла
+    private void writeResults(GradedSheet[] results, Writer writer, GradingTotals totals) throws IOException {
+        List<TestResult> testResults = new ArrayList<>(results.length);
+        for (GradedSheet result : results) {
+            totals.add(result);
+            testResults.add(result.testResult());
+            var student = result.testResult().getStudent();
+            writer.write(Integer.toString(result.lineNumber()));
+            writer.write(';');
+            writer.write(student.firstName());
+            writer.write(';');
+            writer.write(student.lastName());
+            writer.write(';');
+            writer.write(Integer.toString(result.testResult().getRightAnswersCount()));
+            writer.write(';');
+            writer.write(Integer.toString(result.testResult().getAnsweredCount()));
+            writer.write(';');
+            writer.write(Boolean.toString(result.passed()));
+            writer.write('\n');
+        }
+        resultJournalService.appendAll(testResults);
+    }
+
+    private GradedSheet gradeSheet(List<Question> questions, AnswerSheet sheet) {
+        var sheetIOService = new AnswerSheetIOService(sheet);
+        var testResult = testService.executeTestFor(sheet.student(),
+                new LocalizedIOServiceImpl(localizedMessagesService, sheetIOService), questions.stream());
+        resultAnalyticsService.collect(testResult);
+        return new GradedSheet(sheet.lineNumber(), testResult, sheetIOService.getAnswersRead(),
+                sheetIOService.getInvalidAnswersCount(),
+                testResult.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass());
+    }
+
+    // Ответы в бланке идут в порядке вопросов в банке, случайный отбор этот порядок ломает
+    private void checkQuestionOrder() {
+        var mode = selectionConfig.getQuestionSelection();
+        if (mode != null && mode != QuestionSelectionMode.ALL && selectionConfig.getQuestionsPerSession() > 0) {
+            throw new IllegalStateException("Answer sheets can be graded only with test.questionSelection=all");
+        }
+    }
+
+    private record GradedSheet(int lineNumber, TestResult testResult, int answersRead, int invalidAnswersCount,
+                               boolean passed) {
+    }
+
+    private static final class GradingTotals {
+
+        private long sheetsCount;
+
+        private long passedCount;
+
+        private long answersCount;
+
+        private long invalidAnswersCount;
+
+        private long malformedLinesCount;
+
+        void add(GradedSheet result) {
+            sheetsCount++;
+            answersCount += result.answersRead();
+            invalidAnswersCount += result.invalidAnswersCount();
+            if (result.passed()) {
+                passedCount++;
+            }
+        }
+    }
+
+    private final class GradingTask extends RecursiveAction {
+
+        private final List<Question> questions;
+
+        private final List<AnswerSheet> sheets;
+
+        private final GradedSheet[] results;
+
+        private final int from;
+
+        private final int to;
+
+        GradingTask(List<Question> questions, List<AnswerSheet> sheets, GradedSheet[] results, int from, int to) {
+            this.questions = questions;
+            this.sheets = sheets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = gradeSheet(questions, sheets.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GradingTask(questions, sheets, results, from, middle),
+                    new GradingTask(questions, sheets, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.AnswerSheet;
+
+/**
+ * IOService для пакетной проверки: ничего не печатает, имя и ответы берет из бланка.
+ */
+public class AnswerSheetIOService implements IOService {
+
+    private final AnswerSheet answerSheet;
+
+    private int stringsRead;
+
+    private int answersRead;
+
+    private int invalidAnswersCount;
+
+    public AnswerSheetIOService(AnswerSheet answerSheet) {
+        this.answerSheet = answerSheet;
+    }
+
+    @Override
+    public void printLine(String s) {
+    }
+
+    @Override
+    public void printFormattedLine(String s, Object... args) {
+    }
+
+    @Override
+    public String readString() {
+        var student = answerSheet.student();
+        return stringsRead++ == 0 ? student.firstName() : student.lastName();
+    }
+
+    @Override
+    public String readStringWithPrompt(String prompt) {
+        return readString();
+    }
+
+    @Override
+    public int readIntForRange(int min, int max, String errorMessage) {
+        var answers = answerSheet.answers();
+        var answer = answersRead < answers.length ? answers[answersRead] : AnswerSheet.NO_ANSWER;
+        answersRead++;
+        if (answer < min || answer > max) {
+            invalidAnswersCount++;
+            return AnswerSheet.NO_ANSWER;
+        }
+        return answer;
+    }
+
+    @Override
+    public int readIntForRangeWithPrompt(int min, int max, String prompt, String errorMessage) {
+        return readIntForRange(min, max, errorMessage);
+    }
+
+    public int getAnswersRead() {
+        return answersRead;
+    }
+
+    public int getInvalidAnswersCount() {
+        return invalidAnswersCount;
+    }
+}
@@ -0,0 +1,146 @@
+package ru.otus.hw.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.text.DecimalFormatSymbols;
+import java.util.Formatter;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Копит вывод в буфере и сбрасывает его одним вызовом перед каждым чтением ввода.
+ */
+@ConditionalOnProperty(prefix = "test", name = "bufferedOutput", havingValue = "true")
+@Service
+public class BufferedStreamsIOService implements IOService {
+    private static final int MAX_ATTEMPTS = 10;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Ограничение на случай форматов, собранных на лету
+    private static final int MAX_CACHED_FORMATS = 256;
+
+    private final Writer writer;
+
+    private final Formatter formatter;
+
+    private final boolean asciiDigits;
+
+    private final Map<String, CompiledFormat> formats = new ConcurrentHashMap<>();
+
+    private final StringBuilder line = new StringBuilder();
+
+    private char[] lineChars = new char[256];
+
+    private final Scanner scanner;
+
+    public BufferedStreamsIOService(@Value("#{T(System).out}") PrintStream printStream,
+                                    @Value("#{T(System).in}") InputStream inputStream) {
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(printStream, Charset.defaultCharset()), BUFFER_SIZE);
+        this.formatter = new Formatter(writer);
+        this.asciiDigits = DecimalFormatSymbols.getInstance(formatter.locale()).getZeroDigit() == '0';
+        this.scanner = new Scanner(inputStream);
+    }
+
+    @Override
+    public void printLine(String s) {
+        try {
+            writer.write(s);
+            writer.write(System.lineSeparator());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void printFormattedLine(String s, Object... args) {
+        var format = getCompiledFormat(s);
+        if (format.canFormat(args, asciiDigits)) {
+            line.setLength(0);
+            format.appendTo(line, args);
+            writeLine();
+        } else {
+            formatter.format(s, args);
+        }
+        printLine("");
+    }
+
+    @Override
+    public String readString() {
+        flush();
+        return scanner.nextLine();
+    }
+
+    @Override
+    public String readStringWithPrompt(String prompt) {
+        printLine(prompt);
+        return readString();
+    }
+
+    @Override
+    public int readIntForRange(int min, int max, String errorMessage) {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            flush();
+            int intValue = IntParser.parse(scanner.nextLine());
+            if (intValue != IntParser.INVALID && intValue >= min && intValue <= max) {
+                return intValue;
+            }
+            printLine(errorMessage);
+        }
+        flush();
+        throw new IllegalArgumentException("Error during reading int value");
+    }
+
+    @Override
+    public int readIntForRangeWithPrompt(int min, int max, String prompt, String errorMessage) {
+        printLine(prompt);
+        return readIntForRange(min, max, errorMessage);
+    }
+
+    private CompiledFormat getCompiledFormat(String s) {
+        var format = formats.get(s);
+        if (format == null) {
+            format = CompiledFormat.compile(s);
+            if (formats.size() < MAX_CACHED_FORMATS) {
+                formats.putIfAbsent(s, format);
+            }
+        }
+        return format;
+    }
+
+    private void writeLine() {
+        int length = line.length();
+        if (length > lineChars.length) {
+            lineChars = new char[Math.max(length, lineChars.length * 2)];
+        }
+        line.getChars(0, length, lineChars, 0);
+        try {
+            writer.write(lineChars, 0, length);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
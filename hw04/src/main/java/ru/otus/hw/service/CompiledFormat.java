@@ -0,0 +1,87 @@
+package ru.otus.hw.service;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+
+/**
+ * Разобранная строка формата printf. Без Formatter собираются только текст, %n, %%, %s и %d без флагов.
+ */
+final class CompiledFormat {
+
+    private final String[] literals;
+
+    private final char[] conversions;
+
+    private CompiledFormat(String[] literals, char[] conversions) {
+        this.literals = literals;
+        this.conversions = conversions;
+    }
+
+    static CompiledFormat compile(String format) {
+        List<String> literals = new ArrayList<>();
+        var conversions = new StringBuilder();
+        var literal = new StringBuilder();
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (++i == format.length()) {
+                return new CompiledFormat(null, null);
+            }
+            char conversion = format.charAt(i);
+            switch (conversion) {
+                case '%' -> literal.append('%');
+                case 'n' -> literal.append(System.lineSeparator());
+                case 's', 'd' -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    conversions.append(conversion);
+                }
+                default -> {
+                    return new CompiledFormat(null, null);
+                }
+            }
+        }
+        literals.add(literal.toString());
+        return new CompiledFormat(literals.toArray(String[]::new), conversions.toString().toCharArray());
+    }
+
+    boolean isSimple() {
+        return literals != null;
+    }
+
+    // %d без Formatter выводится только для целых и только если локаль пишет цифры как ASCII
+    boolean canFormat(Object[] args, boolean asciiDigits) {
+        if (!isSimple() || args == null || args.length < conversions.length) {
+            return false;
+        }
+        for (int i = 0; i < conversions.length; i++) {
+            var arg = args[i];
+            boolean supported = conversions[i] == 'd'
+                    ? asciiDigits && (arg instanceof Integer || arg instanceof Long)
+                    : !(arg instanceof Formattable);
+            if (!supported) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void appendTo(StringBuilder target, Object[] args) {
+        for (int i = 0; i < conversions.length; i++) {
+            target.append(literals[i]);
+            var arg = args[i];
+            if (arg instanceof Integer value) {
+                target.append(value.intValue());
+            } else if (arg instanceof Long value) {
+                target.append(value.longValue());
+            } else {
+                target.append(arg);
+            }
+        }
+        target.append(literals[conversions.length]);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.otus.hw.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Разобранный шаблон сообщения. Без MessageFormat собираются только шаблоны из текста и {n}.
+ */
+public final class CompiledMessage {
+
+    // MessageFormat выводит числа с разделителями разрядов по правилам локали, до 1000 они не нужны
+    private static final int MAX_PLAIN_INT = 999;
+
+    private static final int MAX_PLAIN_INT_LENGTH = 3;
+
+    private final String pattern;
+
+    private final String[] literals;
+
+    private final int[] argumentIndexes;
+
+    private final int literalsLength;
+
+    private CompiledMessage(String pattern, String[] literals, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int length = 0;
+        if (literals != null) {
+            for (String literal : literals) {
+                length += literal.length();
+            }
+        }
+        this.literalsLength = length;
+    }
+
+    public static CompiledMessage compile(String pattern) {
+        if (pattern.indexOf('\'') >= 0) {
+            return new CompiledMessage(pattern, null, null);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> argumentIndexes = new ArrayList<>();
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0 || !isArgumentIndex(pattern, open + 1, close)) {
+                return new CompiledMessage(pattern, null, null);
+            }
+            literals.add(pattern.substring(start, open));
+            argumentIndexes.add(Integer.parseInt(pattern, open + 1, close, 10));
+            start = close + 1;
+            open = pattern.indexOf('{', start);
+        }
+        if (pattern.indexOf('}', start) >= 0) {
+            return new CompiledMessage(pattern, null, null);
+        }
+        literals.add(pattern.substring(start));
+
+        return new CompiledMessage(pattern, literals.toArray(String[]::new),
+                argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public boolean isSimple() {
+        return literals != null;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean canFormat(int arg) {
+        return isSimple() && arg >= 0 && arg <= MAX_PLAIN_INT;
+    }
+
+    public boolean canFormat(String arg) {
+        return isSimple() && arg != null;
+    }
+
+    public String format(String arg) {
+        if (argumentIndexes.length == 0) {
+            return pattern;
+        }
+        var result = new StringBuilder(literalsLength + arg.length() * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            if (appendLiteral(result, i)) {
+                result.append(arg);
+            }
+        }
+        return result.append(literals[argumentIndexes.length]).toString();
+    }
+
+    public String format(int arg) {
+        if (argumentIndexes.length == 0) {
+            return pattern;
+        }
+        var result = new StringBuilder(literalsLength + MAX_PLAIN_INT_LENGTH * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            if (appendLiteral(result, i)) {
+                result.append(arg);
+            }
+        }
+        return result.append(literals[argumentIndexes.length]).toString();
+    }
+
+    // Подставляется только {0}, остальные {n} остаются как есть
+    private boolean appendLiteral(StringBuilder result, int i) {
+        result.append(literals[i]);
+        if (argumentIndexes[i] == 0) {
+            return true;
+        }
+        result.append('{').append(argumentIndexes[i]).append('}');
+        return false;
+    }
+
+    private static boolean isArgumentIndex(String pattern, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package ru.otus.hw.service;
+
+final class IntParser {
+
+    static final int INVALID = Integer.MIN_VALUE;
+
+    private static final int MAX_DIGITS = 9;
+
+    private IntParser() {
+    }
+
+    // Пробелы по краям допускаются, число длиннее MAX_DIGITS цифр считается ошибкой
+    static int parse(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        boolean negative = start < end && value.charAt(start) == '-';
+        if (negative || start < end && value.charAt(start) == '+') {
+            start++;
+        }
+        if (start == end || end - start > MAX_DIGITS) {
+            return INVALID;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return negative ? -result : result;
+    }
+}
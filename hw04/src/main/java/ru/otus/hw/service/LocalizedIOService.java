@@ -5,6 +5,10 @@ public interface LocalizedIOService extends LocalizedMessagesService, IOService
 
     void printFormattedLineLocalized(String code, Object ...args);
 
+    void printFormattedLineLocalized(String code, String arg);
+
+    void printFormattedLineLocalized(String code, int arg);
+
     String readStringWithPromptLocalized(String promptCode);
 
     int readIntForRangeLocalized(int min, int max, String errorMessageCode);
@@ -3,6 +3,8 @@ package ru.otus.hw.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @RequiredArgsConstructor
 @Service
 public class LocalizedIOServiceImpl implements LocalizedIOService {
@@ -41,6 +43,11 @@ public class LocalizedIOServiceImpl implements LocalizedIOService {
         return ioService.readIntForRangeWithPrompt(min, max, prompt, errorMessage);
     }
 
+    @Override
+    public void flush() {
+        ioService.flush();
+    }
+
     @Override
     public void printLineLocalized(String code) {
         ioService.printLine(localizedMessagesService.getMessage(code));
@@ -51,6 +58,16 @@ public class LocalizedIOServiceImpl implements LocalizedIOService {
         ioService.printLine(localizedMessagesService.getMessage(code, args));
     }
 
+    @Override
+    public void printFormattedLineLocalized(String code, String arg) {
+        ioService.printLine(localizedMessagesService.getMessage(code, arg));
+    }
+
+    @Override
+    public void printFormattedLineLocalized(String code, int arg) {
+        ioService.printLine(localizedMessagesService.getMessage(code, arg));
+    }
+
     @Override
     public String readStringWithPromptLocalized(String promptCode) {
         return ioService.readStringWithPrompt(localizedMessagesService.getMessage(promptCode));
@@ -73,4 +90,24 @@ public class LocalizedIOServiceImpl implements LocalizedIOService {
     public String getMessage(String code, Object... args) {
         return localizedMessagesService.getMessage(code, args);
     }
+
+    @Override
+    public String getMessage(String code) {
+        return localizedMessagesService.getMessage(code);
+    }
+
+    @Override
+    public String getMessage(String code, String arg) {
+        return localizedMessagesService.getMessage(code, arg);
+    }
+
+    @Override
+    public String getMessage(String code, int arg) {
+        return localizedMessagesService.getMessage(code, arg);
+    }
+
+    @Override
+    public LocalizedMessagesService forLocale(Locale locale) {
+        return localizedMessagesService.forLocale(locale);
+    }
 }
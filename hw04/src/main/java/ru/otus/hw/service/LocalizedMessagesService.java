@@ -1,5 +1,15 @@
 package ru.otus.hw.service;
 
+import java.util.Locale;
+
 public interface LocalizedMessagesService {
     String getMessage(String code, Object ...args);
+
+    String getMessage(String code);
+
+    String getMessage(String code, String arg);
+
+    String getMessage(String code, int arg);
+
+    LocalizedMessagesService forLocale(Locale locale);
 }
@@ -1,11 +1,25 @@
 package ru.otus.hw.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import ru.otus.hw.config.LocaleConfig;
 
-@RequiredArgsConstructor
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Primary
 @Service
 public class LocalizedMessagesServiceImpl implements LocalizedMessagesService {
 
@@ -13,8 +27,164 @@ public class LocalizedMessagesServiceImpl implements LocalizedMessagesService {
 
     private final MessageSource messageSource;
 
+    private final MessageSourceProperties messageSourceProperties;
+
+    private final Map<Locale, Map<String, CompiledMessage>> messagesByLocale = new ConcurrentHashMap<>();
+
+    public LocalizedMessagesServiceImpl(LocaleConfig localeConfig, MessageSource messageSource,
+                                        MessageSourceProperties messageSourceProperties) {
+        this.localeConfig = localeConfig;
+        this.messageSource = messageSource;
+        this.messageSourceProperties = messageSourceProperties;
+    }
+
     @Override
     public String getMessage(String code, Object... args) {
-        return messageSource.getMessage(code, args, localeConfig.getLocale());
+        return getMessage(getLocale(), code, args);
+    }
+
+    @Override
+    public String getMessage(String code) {
+        return getMessage(getLocale(), code);
+    }
+
+    @Override
+    public String getMessage(String code, String arg) {
+        return getMessage(getLocale(), code, arg);
+    }
+
+    @Override
+    public String getMessage(String code, int arg) {
+        return getMessage(getLocale(), code, arg);
+    }
+
+    @Override
+    public LocalizedMessagesService forLocale(Locale locale) {
+        return new LocaleBoundMessagesService(locale);
+    }
+
+    // Локали берутся из имен файлов messages*.properties
+    @PostConstruct
+    public void warmUp() {
+        Set<Locale> locales = new HashSet<>();
+        Set<String> codes = new HashSet<>();
+        var resolver = new PathMatchingResourcePatternResolver();
+        var basenames = StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(messageSourceProperties.getBasename()));
+        try {
+            for (String basename : basenames) {
+                var fileBaseName = StringUtils.getFilename(basename.replace('.', '/'));
+                for (Resource resource : resolver.getResources("classpath*:" + basename.replace('.', '/')
+                        + "*.properties")) {
+                    var localeSuffix = getLocaleSuffix(fileBaseName, resource.getFilename());
+                    if (localeSuffix != null) {
+                        codes.addAll(PropertiesLoaderUtils.loadProperties(resource).stringPropertyNames());
+                        if (!localeSuffix.isEmpty()) {
+                            locales.add(StringUtils.parseLocale(localeSuffix));
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        locales.add(getLocale());
+        for (Locale locale : locales) {
+            for (String code : codes) {
+                getCompiledMessage(locale, code);
+            }
+        }
+    }
+
+    // Как и AbstractMessageSource, без заданной локали используем локаль по умолчанию
+    private Locale getLocale() {
+        var locale = localeConfig.getLocale();
+        return locale != null ? locale : Locale.getDefault();
+    }
+
+    private String getMessage(Locale locale, String code, Object... args) {
+        if (args == null || args.length == 0) {
+            return getMessage(locale, code);
+        }
+        if (args.length == 1 && args[0] instanceof String arg) {
+            return getMessage(locale, code, arg);
+        }
+        if (args.length == 1 && args[0] instanceof Integer arg) {
+            return getMessage(locale, code, arg.intValue());
+        }
+        return messageSource.getMessage(code, args, locale);
+    }
+
+    private String getMessage(Locale locale, String code) {
+        var message = getCompiledMessage(locale, code);
+        return message.isSimple() ? message.getPattern() : messageSource.getMessage(code, null, locale);
+    }
+
+    private String getMessage(Locale locale, String code, String arg) {
+        var message = getCompiledMessage(locale, code);
+        return message.canFormat(arg) ? message.format(arg) : messageSource.getMessage(code, new Object[]{arg}, locale);
+    }
+
+    private String getMessage(Locale locale, String code, int arg) {
+        var message = getCompiledMessage(locale, code);
+        return message.canFormat(arg) ? message.format(arg) : messageSource.getMessage(code, new Object[]{arg}, locale);
+    }
+
+    private CompiledMessage getCompiledMessage(Locale locale, String code) {
+        var messages = messagesByLocale.get(locale);
+        if (messages == null) {
+            messages = messagesByLocale.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        }
+        var message = messages.get(code);
+        if (message == null) {
+            message = CompiledMessage.compile(messageSource.getMessage(code, null, locale));
+            messages.putIfAbsent(code, message);
+        }
+        return message;
+    }
+
+    private static String getLocaleSuffix(String fileBaseName, String fileName) {
+        if (fileName == null || !fileName.startsWith(fileBaseName) || !fileName.endsWith(".properties")) {
+            return null;
+        }
+        var suffix = fileName.substring(fileBaseName.length(), fileName.length() - ".properties".length());
+        if (suffix.isEmpty()) {
+            return suffix;
+        }
+        return suffix.startsWith("_") ? suffix.substring(1) : null;
+    }
+
+    private class LocaleBoundMessagesService implements LocalizedMessagesService {
+
+        private final Locale locale;
+
+        LocaleBoundMessagesService(Locale locale) {
+            this.locale = locale;
+        }
+
+        @Override
+        public String getMessage(String code, Object... args) {
+            return LocalizedMessagesServiceImpl.this.getMessage(locale, code, args);
+        }
+
+        @Override
+        public String getMessage(String code) {
+            return LocalizedMessagesServiceImpl.this.getMessage(locale, code);
+        }
+
+        @Override
+        public String getMessage(String code, String arg) {
+            return LocalizedMessagesServiceImpl.this.getMessage(locale, code, arg);
+        }
+
+        @Override
+        public String getMessage(String code, int arg) {
+            return LocalizedMessagesServiceImpl.this.getMessage(locale, code, arg);
+        }
+
+        @Override
+        public LocalizedMessagesService forLocale(Locale otherLocale) {
+            return LocalizedMessagesServiceImpl.this.forLocale(otherLocale);
+        }
     }
 }
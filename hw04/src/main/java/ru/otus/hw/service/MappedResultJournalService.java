@@ -0,0 +1,131 @@
+package ru.otus.hw.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.ResultJournalConfig;
+import ru.otus.hw.dao.journal.ResultJournalFormat;
+import ru.otus.hw.dao.journal.ResultJournalReader;
+import ru.otus.hw.dao.journal.ResultJournalWriter;
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.domain.TestResult;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Сессии только кладут запись в очередь, на диск ее пачками пишет отдельный поток.
+ */
+@ConditionalOnProperty(prefix = "test", name = "resultJournal", havingValue = "true")
+@Service
+@RequiredArgsConstructor
+public class MappedResultJournalService implements ResultJournalService {
+
+    private static final int QUEUE_CAPACITY = 65_536;
+
+    private static final int MAX_BATCH_SIZE = 4096;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final ResultJournalConfig journalConfig;
+
+    private final BlockingQueue<ResultRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private volatile boolean running;
+
+    private ResultJournalWriter writer;
+
+    private Thread writerThread;
+
+    @PostConstruct
+    public void start() {
+        writer = ResultJournalWriter.open(getDirectory(), journalConfig.getResultJournalSegmentRecords());
+        running = true;
+        writerThread = new Thread(this::writeLoop, "result-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // Не блокирует сессию: при переполненной очереди запись отбрасывается и учитывается в droppedCount
+    @Override
+    public void append(TestResult testResult) {
+        if (!queue.offer(toRecord(testResult))) {
+            droppedCount.increment();
+        }
+    }
+
+    // Для пакетной проверки: ждет места в очереди, а не отбрасывает записи
+    @Override
+    public void appendAll(List<TestResult> testResults) {
+        for (int i = 0; i < testResults.size(); i++) {
+            try {
+                queue.put(toRecord(testResults.get(i)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                droppedCount.add(testResults.size() - i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Stream<ResultRecord> readAll() {
+        return ResultJournalReader.stream(getDirectory());
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join();
+        writer.close();
+    }
+
+    private void writeLoop() {
+        List<ResultRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            long appendedBefore = writer.getAppendedCount();
+            try {
+                var first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writer.append(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                // Пишущий поток не должен умирать: теряется только незаписанный остаток пачки
+                droppedCount.add(batch.size() - (writer.getAppendedCount() - appendedBefore));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private static ResultRecord toRecord(TestResult testResult) {
+        return new ResultRecord(System.currentTimeMillis(),
+                ResultJournalFormat.hashName(testResult.getStudent().getFullName()),
+                testResult.getRightAnswersCount(), testResult.getAnsweredCount());
+    }
+
+    private Path getDirectory() {
+        return Path.of(journalConfig.getResultJournalDirectory());
+    }
+}
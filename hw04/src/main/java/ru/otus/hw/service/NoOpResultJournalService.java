@@ -0,0 +1,32 @@
+package ru.otus.hw.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@ConditionalOnProperty(prefix = "test", name = "resultJournal", havingValue = "false", matchIfMissing = true)
+@Service
+public class NoOpResultJournalService implements ResultJournalService {
+
+    @Override
+    public void append(TestResult testResult) {
+    }
+
+    @Override
+    public void appendAll(List<TestResult> testResults) {
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return 0;
+    }
+
+    @Override
+    public Stream<ResultRecord> readAll() {
+        return Stream.empty();
+    }
+}
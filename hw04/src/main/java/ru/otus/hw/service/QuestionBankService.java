@@ -0,0 +1,11 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.dao.QuestionBankStats;
+
+import java.util.List;
+
+public interface QuestionBankService {
+    int compile(String sourceFileName, String targetPath);
+
+    List<QuestionBankStats> getStats();
+}
@@ -0,0 +1,39 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.dao.CachedQuestionDao;
+import ru.otus.hw.dao.QuestionBankStats;
+import ru.otus.hw.dao.QuestionFileDaoResolver;
+import ru.otus.hw.dao.binary.QuestionBankWriter;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionBankServiceImpl implements QuestionBankService {
+
+    private final QuestionFileDaoResolver questionFileDaoResolver;
+
+    // В режиме streamQuestions кэша нет, статистика пустая
+    private final ObjectProvider<CachedQuestionDao> cachedQuestionDao;
+
+    @Override
+    public int compile(String sourceFileName, String targetPath) {
+        try (var questions = questionFileDaoResolver.resolve(sourceFileName).streamAll(sourceFileName)) {
+            return QuestionBankWriter.write(questions.iterator(), Path.of(targetPath));
+        } catch (IOException ex) {
+            throw new QuestionReadException("Error writing question bank: ", ex);
+        }
+    }
+
+    @Override
+    public List<QuestionBankStats> getStats() {
+        var questionDao = cachedQuestionDao.getIfAvailable();
+        return questionDao == null ? List.of() : questionDao.getStats();
+    }
+}
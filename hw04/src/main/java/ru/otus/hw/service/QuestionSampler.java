@@ -0,0 +1,121 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.Question;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Случайный отбор вопросов за один проход по источнику неизвестной длины.
+ */
+final class QuestionSampler {
+
+    private QuestionSampler() {
+    }
+
+    // Reservoir sampling, алгоритм L
+    static List<Question> sample(Iterator<Question> questions, int count, RandomGenerator random) {
+        List<Question> reservoir = new ArrayList<>(count);
+        while (reservoir.size() < count && questions.hasNext()) {
+            reservoir.add(questions.next());
+        }
+
+        double weight = Math.exp(Math.log(nextOpenDouble(random)) / count);
+        while (questions.hasNext()) {
+            long skip = (long) Math.floor(Math.log(nextOpenDouble(random)) / Math.log1p(-weight));
+            while (skip-- > 0 && questions.hasNext()) {
+                questions.next();
+            }
+            if (!questions.hasNext()) {
+                break;
+            }
+            reservoir.set(random.nextInt(count), questions.next());
+            weight *= Math.exp(Math.log(nextOpenDouble(random)) / count);
+        }
+
+        shuffle(reservoir, random);
+        return reservoir;
+    }
+
+    // Квоты сложностей пропорциональны числу их вопросов, вопросы идут по возрастанию сложности
+    static List<Question> sampleStratified(Iterator<Question> questions, int count, RandomGenerator random) {
+        Map<Integer, Stratum> strata = new TreeMap<>();
+        long total = 0;
+        while (questions.hasNext()) {
+            var question = questions.next();
+            strata.computeIfAbsent(question.difficulty(), difficulty -> new Stratum(count))
+                    .offer(question, random);
+            total++;
+        }
+        if (total == 0) {
+            return List.of();
+        }
+
+        int selectedCount = (int) Math.min(count, total);
+        int allocated = 0;
+        for (Stratum stratum : strata.values()) {
+            var share = (double) selectedCount * stratum.seen / total;
+            stratum.quota = (int) share;
+            stratum.remainder = share - stratum.quota;
+            allocated += stratum.quota;
+        }
+        List<Stratum> byRemainder = new ArrayList<>(strata.values());
+        byRemainder.sort((left, right) -> Double.compare(right.remainder, left.remainder));
+        for (int i = 0; allocated < selectedCount; i++) {
+            byRemainder.get(i).quota++;
+            allocated++;
+        }
+
+        List<Question> selected = new ArrayList<>(selectedCount);
+        for (Stratum stratum : strata.values()) {
+            shuffle(stratum.reservoir, random);
+            selected.addAll(stratum.reservoir.subList(0, stratum.quota));
+        }
+        return selected;
+    }
+
+    // (0, 1]: логарифм от нуля дал бы бесконечный пропуск
+    private static double nextOpenDouble(RandomGenerator random) {
+        return 1.0 - random.nextDouble();
+    }
+
+    private static void shuffle(List<Question> questions, RandomGenerator random) {
+        for (int i = questions.size() - 1; i > 0; i--) {
+            Collections.swap(questions, i, random.nextInt(i + 1));
+        }
+    }
+
+    private static final class Stratum {
+
+        private final int capacity;
+
+        private final List<Question> reservoir = new ArrayList<>();
+
+        private long seen;
+
+        private int quota;
+
+        private double remainder;
+
+        Stratum(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(Question question, RandomGenerator random) {
+            seen++;
+            if (reservoir.size() < capacity) {
+                reservoir.add(question);
+                return;
+            }
+            long index = random.nextLong(seen);
+            if (index < capacity) {
+                reservoir.set((int) index, question);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.Question;
+
+import java.util.stream.Stream;
+
+public interface QuestionSelectionService {
+    Stream<Question> select(Stream<Question> questions);
+}
@@ -0,0 +1,32 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.QuestionSelectionConfig;
+import ru.otus.hw.config.QuestionSelectionMode;
+import ru.otus.hw.domain.Question;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionSelectionServiceImpl implements QuestionSelectionService {
+
+    private final QuestionSelectionConfig selectionConfig;
+
+    @Override
+    public Stream<Question> select(Stream<Question> questions) {
+        var mode = selectionConfig.getQuestionSelection();
+        var count = selectionConfig.getQuestionsPerSession();
+        if (mode == null || mode == QuestionSelectionMode.ALL || count <= 0) {
+            return questions;
+        }
+        var random = ThreadLocalRandom.current();
+        var iterator = questions.iterator();
+        var selected = mode == QuestionSelectionMode.RANDOM
+                ? QuestionSampler.sample(iterator, count, random)
+                : QuestionSampler.sampleStratified(iterator, count, random);
+        return selected.stream();
+    }
+}
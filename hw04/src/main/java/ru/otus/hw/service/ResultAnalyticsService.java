@@ -0,0 +1,17 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.ResultStatistics;
+import ru.otus.hw.domain.TestResult;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public interface ResultAnalyticsService {
+    void collect(TestResult testResult);
+
+    void collect(TestResult testResult, Locale bankLocale);
+
+    ResultStatistics getStatistics();
+
+    int exportToCsv(Path target);
+}
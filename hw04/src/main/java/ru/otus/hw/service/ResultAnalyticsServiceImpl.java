@@ -0,0 +1,161 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.LocalizedQuestionDao;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionStatistics;
+import ru.otus.hw.domain.ResultStatistics;
+import ru.otus.hw.domain.TestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+public class ResultAnalyticsServiceImpl implements ResultAnalyticsService {
+
+    private static final String CSV_SEPARATOR = ";";
+
+    private final TestConfig testConfig;
+
+    private final LocaleConfig localeConfig;
+
+    private final LocalizedQuestionDao questionDao;
+
+    private final LongAdder sessionsCount = new LongAdder();
+
+    private final LongAdder passedCount = new LongAdder();
+
+    private final StripedCounters scoreHistogram = new StripedCounters();
+
+    private final Map<Locale, BankCounters> countersByBank = new ConcurrentHashMap<>();
+
+    @Override
+    public void collect(TestResult testResult) {
+        collect(testResult, localeConfig.getLocale());
+    }
+
+    @Override
+    public void collect(TestResult testResult, Locale bankLocale) {
+        sessionsCount.increment();
+        if (testResult.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass()) {
+            passedCount.increment();
+        }
+        scoreHistogram.increment(testResult.getRightAnswersCount());
+        var bank = countersByBank.computeIfAbsent(bankLocale, locale -> new BankCounters());
+        for (int answer = 0; answer < testResult.getAnsweredCount(); answer++) {
+            var questionIndex = testResult.getQuestionIndex(answer);
+            if (questionIndex == Question.NO_INDEX) {
+                continue;
+            }
+            bank.asked().increment(questionIndex);
+            if (testResult.isRightAnswer(answer)) {
+                bank.right().increment(questionIndex);
+            }
+        }
+    }
+
+    // Снимок не атомарен: сессии, завершающиеся во время чтения, могут попасть в него частично.
+    @Override
+    public ResultStatistics getStatistics() {
+        List<QuestionStatistics> questions = new ArrayList<>();
+        countersByBank.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().toLanguageTag()))
+                .forEach(entry -> addBankStatistics(entry.getKey(), entry.getValue(), questions));
+        return new ResultStatistics(sessionsCount.sum(), passedCount.sum(), scoreHistogram.snapshot(), questions);
+    }
+
+    @Override
+    public int exportToCsv(Path target) {
+        var statistics = getStatistics();
+        try (var writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write(String.join(CSV_SEPARATOR, "locale", "question", "asked", "right", "text"));
+            writer.newLine();
+            for (QuestionStatistics question : statistics.questions()) {
+                writer.write(question.locale().toLanguageTag() + CSV_SEPARATOR + question.questionNumber()
+                        + CSV_SEPARATOR + question.askedCount() + CSV_SEPARATOR + question.rightCount()
+                        + CSV_SEPARATOR + quote(question.text()));
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return statistics.questions().size();
+    }
+
+    private void addBankStatistics(Locale locale, BankCounters counters, List<QuestionStatistics> questions) {
+        var asked = counters.asked().snapshot();
+        var right = counters.right().snapshot();
+        var bank = questionDao.findLoaded(locale);
+        for (int index = 0; index < asked.length; index++) {
+            if (asked[index] > 0) {
+                var text = index < bank.size() ? bank.get(index).text() : "";
+                questions.add(new QuestionStatistics(locale, index, text, asked[index],
+                        index < right.length ? right[index] : 0));
+            }
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record BankCounters(StripedCounters asked, StripedCounters right) {
+
+        BankCounters() {
+            this(new StripedCounters(), new StripedCounters());
+        }
+    }
+
+    /**
+     * Растущий массив LongAdder: чтение и инкремент без блокировок, блокировка только при расширении.
+     */
+    private static final class StripedCounters {
+
+        private volatile LongAdder[] counters = new LongAdder[0];
+
+        void increment(int index) {
+            var current = counters;
+            if (index >= current.length) {
+                current = grow(index);
+            }
+            current[index].increment();
+        }
+
+        long[] snapshot() {
+            var current = counters;
+            var values = new long[current.length];
+            for (int i = 0; i < current.length; i++) {
+                values[i] = current[i].sum();
+            }
+            return values;
+        }
+
+        private synchronized LongAdder[] grow(int index) {
+            var current = counters;
+            if (index < current.length) {
+                return current;
+            }
+            var grown = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = new LongAdder();
+            }
+            counters = grown;
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ResultJournalService {
+    void append(TestResult testResult);
+
+    void appendAll(List<TestResult> testResults);
+
+    long getDroppedCount();
+
+    Stream<ResultRecord> readAll();
+}
@@ -13,21 +13,30 @@ public class ResultServiceImpl implements ResultService {
 
     private final LocalizedIOService ioService;
 
+    private final ResultJournalService resultJournalService;
+
     @Override
     public void showResult(TestResult testResult) {
-        ioService.printLine("");
-        ioService.printLineLocalized("ResultService.test.results");
-        ioService.printFormattedLineLocalized("ResultService.student",
+        showResult(testResult, ioService);
+    }
+
+    @Override
+    public void showResult(TestResult testResult, LocalizedIOService sessionIOService) {
+        resultJournalService.append(testResult);
+
+        sessionIOService.printLine("");
+        sessionIOService.printLineLocalized("ResultService.test.results");
+        sessionIOService.printFormattedLineLocalized("ResultService.student",
                 testResult.getStudent().getFullName());
-        ioService.printFormattedLineLocalized("ResultService.answered.questions.count",
-                testResult.getAnsweredQuestions().size());
-        ioService.printFormattedLineLocalized("ResultService.right.answers.count",
+        sessionIOService.printFormattedLineLocalized("ResultService.answered.questions.count",
+                testResult.getAnsweredCount());
+        sessionIOService.printFormattedLineLocalized("ResultService.right.answers.count",
                 testResult.getRightAnswersCount());
 
         if (testResult.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass()) {
-            ioService.printLineLocalized("ResultService.passed.test");
+            sessionIOService.printLineLocalized("ResultService.passed.test");
             return;
         }
-        ioService.printLineLocalized("ResultService.fail.test");
+        sessionIOService.printLineLocalized("ResultService.fail.test");
     }
 }
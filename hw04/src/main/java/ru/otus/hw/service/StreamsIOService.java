@@ -1,12 +1,14 @@
 package ru.otus.hw.service;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.Scanner;
 
+@ConditionalOnProperty(prefix = "test", name = "bufferedOutput", havingValue = "false", matchIfMissing = true)
 @Service
 public class StreamsIOService implements IOService {
     private static final int MAX_ATTEMPTS = 10;
@@ -46,16 +48,11 @@ public class StreamsIOService implements IOService {
     @Override
     public int readIntForRange(int min, int max, String errorMessage) {
         for (int i = 0; i < MAX_ATTEMPTS; i++) {
-            try {
-                var stringValue = scanner.nextLine();
-                int intValue = Integer.parseInt(stringValue);
-                if (intValue < min || intValue > max) {
-                    throw new IllegalArgumentException();
-                }
+            int intValue = IntParser.parse(scanner.nextLine());
+            if (intValue != IntParser.INVALID && intValue >= min && intValue <= max) {
                 return intValue;
-            } catch (IllegalArgumentException e) {
-                printLine(errorMessage);
             }
+            printLine(errorMessage);
         }
         throw new IllegalArgumentException("Error during reading int value");
     }
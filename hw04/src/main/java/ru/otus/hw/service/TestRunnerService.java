@@ -2,4 +2,6 @@ package ru.otus.hw.service;
 
 public interface TestRunnerService {
     void run();
+
+    boolean isTestCompleted();
 }
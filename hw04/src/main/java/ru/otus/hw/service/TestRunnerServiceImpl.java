@@ -13,11 +13,26 @@ public class TestRunnerServiceImpl implements TestRunnerService {
 
     private final ResultService resultService;
 
+    private final LocalizedIOService ioService;
+
+    private final ResultAnalyticsService resultAnalyticsService;
+
+    // Команды оболочки могут выполняться не в том потоке, где завершился тест
+    private volatile boolean testCompleted;
+
     @Override
     public void run() {
         var student = studentService.determineCurrentStudent();
         var testResult = testService.executeTestFor(student);
+        resultAnalyticsService.collect(testResult);
         resultService.showResult(testResult);
+        ioService.flush();
+        testCompleted = true;
+    }
+
+    @Override
+    public boolean isTestCompleted() {
+        return testCompleted;
     }
 
 }
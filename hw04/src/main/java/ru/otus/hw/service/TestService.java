@@ -5,9 +5,12 @@ import ru.otus.hw.domain.Student;
 import ru.otus.hw.domain.TestResult;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TestService {
     TestResult executeTestFor(Student student);
 
+    TestResult executeTestFor(Student student, LocalizedIOService sessionIOService, Stream<Question> questions);
+
     List<Question> getAllQuestions();
 }
@@ -2,6 +2,8 @@ package ru.otus.hw.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import ru.otus.hw.config.QuestionSelectionConfig;
+import ru.otus.hw.config.TestConfig;
 import ru.otus.hw.dao.QuestionDao;
 import ru.otus.hw.domain.Answer;
 import ru.otus.hw.domain.Question;
@@ -9,6 +11,7 @@ import ru.otus.hw.domain.Student;
 import ru.otus.hw.domain.TestResult;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,21 +21,36 @@ public class TestServiceImpl implements TestService {
 
     private final QuestionDao questionDao;
 
+    private final QuestionSelectionService questionSelectionService;
+
+    private final TestConfig testConfig;
+
+    private final QuestionSelectionConfig selectionConfig;
+
     @Override
     public TestResult executeTestFor(Student student) {
-        ioService.printLine("");
-        ioService.printLineLocalized("TestService.answer.the.questions");
-        ioService.printLine("");
+        try (var questions = questionDao.streamAll()) {
+            return executeTestFor(student, ioService, questions);
+        }
+    }
+
+    // Поток вопросов закрывает вызывающий
+    @Override
+    public TestResult executeTestFor(Student student, LocalizedIOService sessionIOService,
+                                     Stream<Question> questions) {
+        sessionIOService.printLine("");
+        sessionIOService.printLineLocalized("TestService.answer.the.questions");
+        sessionIOService.printLine("");
 
-        var questions = questionDao.findAll();
         var testResult = new TestResult(student);
 
-        for (var question : questions) {
-            printQuestion(question);
-            var chosenAnswer = ioService.readIntForRangeWithPromptLocalized(1, question.answers().size(),
-                    "TestService.answer.choose", "TestService.answer.choose.error");
-            var isAnswerValid = question.answers().get(chosenAnswer - 1).isCorrect();
-            testResult.applyAnswer(question, isAnswerValid);
+        var selected = questionSelectionService.select(questions).spliterator();
+        // Для потока из файла размер неизвестен (-1), тогда досрочно заканчиваем только при сдаче
+        var remaining = selected.getExactSizeIfKnown();
+        var stopWhenDecided = selectionConfig.isStopWhenDecided();
+        while (!(stopWhenDecided && isDecided(testResult, remaining))
+                && selected.tryAdvance(question -> askQuestion(question, testResult, sessionIOService))) {
+            remaining--;
         }
         return testResult;
     }
@@ -43,11 +61,27 @@ public class TestServiceImpl implements TestService {
 
     }
 
-    private void printQuestion(Question question) {
-        ioService.printLine(question.text());
+    private boolean isDecided(TestResult testResult, long remaining) {
+        var rightAnswersCountToPass = testConfig.getRightAnswersCountToPass();
+        var rightAnswersCount = testResult.getRightAnswersCount();
+        return rightAnswersCount >= rightAnswersCountToPass
+                || remaining >= 0 && rightAnswersCount + remaining < rightAnswersCountToPass;
+    }
+
+    private void askQuestion(Question question, TestResult testResult, LocalizedIOService sessionIOService) {
+        printQuestion(question, sessionIOService);
+        var chosenAnswer = sessionIOService.readIntForRangeWithPromptLocalized(1, question.answers().size(),
+                "TestService.answer.choose", "TestService.answer.choose.error");
+        var isAnswerValid = chosenAnswer >= 1 && chosenAnswer <= question.answers().size()
+                && question.answers().get(chosenAnswer - 1).isCorrect();
+        testResult.applyAnswer(question, isAnswerValid);
+    }
+
+    private void printQuestion(Question question, LocalizedIOService sessionIOService) {
+        sessionIOService.printLine(question.text());
         byte numAnswer = 1;
         for (Answer answer : question.answers()) {
-            ioService.printLine(numAnswer++ + ". " + answer.text());
+            sessionIOService.printLine(numAnswer++ + ". " + answer.text());
         }
     }
 
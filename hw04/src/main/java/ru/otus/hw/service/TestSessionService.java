@@ -0,0 +1,13 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+public interface TestSessionService {
+    CompletableFuture<TestResult> startSession(Student student, IOService sessionIOService);
+
+    CompletableFuture<TestResult> startSession(Student student, IOService sessionIOService, Locale locale);
+}
@@ -0,0 +1,98 @@
+package ru.otus.hw.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.SessionConfig;
+import ru.otus.hw.dao.LocalizedQuestionDao;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TestSessionServiceImpl implements TestSessionService {
+
+    private final TestService testService;
+
+    private final ResultService resultService;
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    private final LocalizedQuestionDao questionDao;
+
+    private final ResultAnalyticsService resultAnalyticsService;
+
+    private final SessionConfig sessionConfig;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = createExecutor(sessionConfig.getMaxConcurrentSessions());
+    }
+
+    // Между сессиями общие только неизменяемые вопросы и сообщения
+    @Override
+    public CompletableFuture<TestResult> startSession(Student student, IOService sessionIOService) {
+        var localizedIOService = new LocalizedIOServiceImpl(localizedMessagesService, sessionIOService);
+        return runSession(student, localizedIOService, questionDao::streamAll, resultAnalyticsService::collect);
+    }
+
+    @Override
+    public CompletableFuture<TestResult> startSession(Student student, IOService sessionIOService, Locale locale) {
+        var localizedIOService = new LocalizedIOServiceImpl(localizedMessagesService.forLocale(locale),
+                sessionIOService);
+        return runSession(student, localizedIOService, () -> questionDao.streamAll(locale),
+                testResult -> resultAnalyticsService.collect(testResult, locale));
+    }
+
+    private CompletableFuture<TestResult> runSession(Student student, LocalizedIOService localizedIOService,
+                                                     Supplier<Stream<Question>> questionsSupplier,
+                                                     Consumer<TestResult> resultCollector) {
+        return CompletableFuture.supplyAsync(() -> {
+            TestResult testResult;
+            try (var questions = questionsSupplier.get()) {
+                testResult = testService.executeTestFor(student, localizedIOService, questions);
+            }
+            resultCollector.accept(testResult);
+            resultService.showResult(testResult, localizedIOService);
+            localizedIOService.flush();
+            return testResult;
+        }, executor);
+    }
+
+    private static ExecutorService createExecutor(int maxConcurrentSessions) {
+        return maxConcurrentSessions > 0
+                ? Executors.newFixedThreadPool(maxConcurrentSessions, new SessionThreadFactory())
+                : Executors.newCachedThreadPool(new SessionThreadFactory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class SessionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "test-session-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.dao.QuestionBankStats;
+import ru.otus.hw.service.LocalizedIOService;
+import ru.otus.hw.service.QuestionBankService;
+
+@ShellComponent
+@ShellCommandGroup("Question bank commands")
+@RequiredArgsConstructor
+public class QuestionBankCommands {
+
+    private final QuestionBankService questionBankService;
+
+    private final LocalizedIOService ioService;
+
+    @ShellMethod(value = "Compile question file into binary bank", key = {"compile-questions", "compile"})
+    public void compileQuestions(@ShellOption(value = "--source") String sourceFileName,
+                                 @ShellOption(value = "--target") String targetPath) {
+
+        var questionCount = questionBankService.compile(sourceFileName, targetPath);
+        ioService.printFormattedLineLocalized("QuestionBankCommands.compiled", questionCount, targetPath);
+        ioService.flush();
+    }
+
+    @ShellMethod(value = "Show loaded question banks by locale", key = {"bank-stats", "bs"})
+    public void showBankStats() {
+
+        var stats = questionBankService.getStats();
+        if (stats.isEmpty()) {
+            ioService.printLineLocalized("QuestionBankCommands.stats.empty");
+        }
+        for (QuestionBankStats bank : stats) {
+            ioService.printFormattedLineLocalized("QuestionBankCommands.stats", bank.locale().toLanguageTag(),
+                    bank.questionCount(), bank.fileName(), bank.loadTimeMillis(), bank.estimatedBytes() / 1024);
+        }
+        ioService.flush();
+    }
+}
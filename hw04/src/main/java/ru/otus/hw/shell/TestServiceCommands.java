@@ -6,10 +6,19 @@ import org.springframework.shell.standard.ShellCommandGroup;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellMethodAvailability;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.domain.QuestionStatistics;
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.service.AnswerSheetGradingService;
 import ru.otus.hw.service.LocalizedIOService;
+import ru.otus.hw.service.ResultAnalyticsService;
+import ru.otus.hw.service.ResultJournalService;
 import ru.otus.hw.service.TestRunnerService;
 import ru.otus.hw.service.TestService;
 
+import java.nio.file.Path;
+
 @ShellComponent
 @ShellCommandGroup("Application commands")
 @RequiredArgsConstructor
@@ -21,12 +30,17 @@ public class TestServiceCommands {
 
     private final LocalizedIOService ioService;
 
-    private boolean isTestPassing = false;
+    private final ResultAnalyticsService resultAnalyticsService;
+
+    private final ResultJournalService resultJournalService;
+
+    private final TestConfig testConfig;
+
+    private final AnswerSheetGradingService answerSheetGradingService;
 
     @ShellMethod(value = "Start test", key = {"start-test", "start"})
     public void startTest() {
         testRunner.run();
-        isTestPassing = true;
     }
 
     @ShellMethod(value = "Show questions", key = {"show-questions", "show"})
@@ -38,10 +52,77 @@ public class TestServiceCommands {
         for (var question : questions) {
             ioService.printLine(question.text());
         }
+        ioService.flush();
+    }
+
+    @ShellMethod(value = "Show or export result statistics", key = {"result-stats", "rs"})
+    public void showResultStatistics(@ShellOption(value = "--target", defaultValue = "") String targetPath) {
+
+        if (!targetPath.isEmpty()) {
+            var questionCount = resultAnalyticsService.exportToCsv(Path.of(targetPath));
+            ioService.printFormattedLineLocalized("TestService.stats.exported", questionCount, targetPath);
+            ioService.flush();
+            return;
+        }
+
+        var statistics = resultAnalyticsService.getStatistics();
+        ioService.printFormattedLineLocalized("TestService.stats.sessions", statistics.sessionsCount(),
+                statistics.passedCount());
+        var scoreHistogram = statistics.scoreHistogram();
+        for (int score = 0; score < scoreHistogram.length; score++) {
+            if (scoreHistogram[score] > 0) {
+                ioService.printFormattedLineLocalized("TestService.stats.score", score, scoreHistogram[score]);
+            }
+        }
+        for (QuestionStatistics question : statistics.questions()) {
+            ioService.printFormattedLineLocalized("TestService.stats.question", question.questionNumber(),
+                    question.locale().toLanguageTag(), question.rightCount(), question.askedCount(),
+                    question.rightCount() * 100 / question.askedCount(), question.text());
+        }
+        ioService.flush();
+    }
+
+    @ShellMethod(value = "Show report on results stored in journal", key = {"journal-report", "jr"})
+    public void showJournalReport() {
+
+        long resultsCount = 0;
+        long passedCount = 0;
+        long rightAnswersSum = 0;
+        try (var records = resultJournalService.readAll()) {
+            for (var iterator = records.iterator(); iterator.hasNext(); ) {
+                ResultRecord record = iterator.next();
+                resultsCount++;
+                rightAnswersSum += record.rightAnswersCount();
+                if (record.rightAnswersCount() >= testConfig.getRightAnswersCountToPass()) {
+                    passedCount++;
+                }
+            }
+        }
+        var averageRightAnswers = resultsCount == 0 ? 0.0 : (double) rightAnswersSum / resultsCount;
+        ioService.printFormattedLineLocalized("TestService.journal.report", resultsCount, passedCount,
+                averageRightAnswers);
+        ioService.flush();
+    }
+
+    @ShellMethod(value = "Grade answer sheets from file", key = {"grade-answers", "grade"})
+    public void gradeAnswers(@ShellOption(value = "--source") String answerFileName,
+                             @ShellOption(value = "--target", defaultValue = "") String targetPath) {
+
+        var summary = targetPath.isEmpty()
+                ? answerSheetGradingService.grade(answerFileName)
+                : answerSheetGradingService.grade(answerFileName, Path.of(targetPath));
+        ioService.printFormattedLineLocalized("TestService.grading.summary", summary.sheetsCount(),
+                summary.passedCount(), summary.answersCount(), summary.elapsedMillis(),
+                summary.invalidAnswersCount(), summary.malformedLinesCount(), summary.sheetsPerSecond(),
+                summary.journalDroppedCount());
+        if (!targetPath.isEmpty()) {
+            ioService.printFormattedLineLocalized("TestService.grading.exported", targetPath);
+        }
+        ioService.flush();
     }
 
     private Availability isShowQuestionsAvailable() {
-        return isTestPassing
+        return testRunner.isTestCompleted()
                 ? Availability.available()
                 : Availability.unavailable(ioService.getMessage("TestService.show.message.not.availability"));
     }
@@ -0,0 +1,50 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.otus.hw.dao.dto.AnswerCsvConverter;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnswerCsvConverterBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private String[] answerValues;
+
+    private AnswerCsvConverter converter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        answerValues = QuestionBankGenerator.generateQuestions(rows).stream()
+                .flatMap(question -> question.answers().stream())
+                .map(answer -> answer.text() + "%" + answer.isCorrect())
+                .toArray(String[]::new);
+        converter = new AnswerCsvConverter();
+    }
+
+    @Benchmark
+    public void convertToRead(Blackhole blackhole) {
+        for (String value : answerValues) {
+            blackhole.consume(converter.convertToRead(value));
+        }
+    }
+}
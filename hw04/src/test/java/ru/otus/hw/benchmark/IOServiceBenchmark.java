@@ -0,0 +1,101 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.service.BufferedStreamsIOService;
+import ru.otus.hw.service.IOService;
+import ru.otus.hw.service.StreamsIOService;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IOServiceBenchmark {
+
+    private static final String[] ANSWERS = {
+            "Science doesn't know this yet",
+            "Certainly. The red UFO is from Mars. And green is from Venus",
+            "Absolutely not",
+            "Rethrow with wrapping in business exception (for example, QuestionReadException)"
+    };
+
+    @Param({"file", "devnull"})
+    private String target;
+
+    @Param({"streams", "buffered"})
+    private String implementation;
+
+    private Path outputFile;
+
+    private PrintStream printStream;
+
+    private IOService ioService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        outputFile = "file".equals(target) ? Files.createTempFile("io-benchmark", ".txt") : Path.of("/dev/null");
+        printStream = new PrintStream(new FileOutputStream(outputFile.toFile()), true);
+        InputStream answers = new RepeatingInputStream("1" + System.lineSeparator());
+        ioService = "buffered".equals(implementation)
+                ? new BufferedStreamsIOService(printStream, answers)
+                : new StreamsIOService(printStream, answers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        printStream.close();
+        if ("file".equals(target)) {
+            Files.deleteIfExists(outputFile);
+        }
+    }
+
+    @Benchmark
+    public int askQuestion() {
+        ioService.printLine("Is there life on Mars?");
+        for (int i = 0; i < ANSWERS.length; i++) {
+            ioService.printLine((i + 1) + ". " + ANSWERS[i]);
+        }
+        ioService.printFormattedLine("Right answers count: %d", 3);
+        return ioService.readIntForRangeWithPrompt(1, ANSWERS.length, "Choose the right option: ",
+                "There is no such answer, repeat");
+    }
+
+    private static class RepeatingInputStream extends InputStream {
+
+        private final byte[] line;
+
+        private int position;
+
+        RepeatingInputStream(String line) {
+            this.line = line.getBytes();
+        }
+
+        @Override
+        public int read() {
+            var value = line[position];
+            position = (position + 1) % line.length;
+            return value;
+        }
+    }
+}
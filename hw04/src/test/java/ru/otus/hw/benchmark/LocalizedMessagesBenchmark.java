@@ -0,0 +1,76 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import ru.otus.hw.service.LocalizedMessagesServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalizedMessagesBenchmark {
+
+    private static final Locale LOCALE = Locale.forLanguageTag("ru-RU");
+
+    private ResourceBundleMessageSource messageSource;
+
+    private LocalizedMessagesServiceImpl localizedMessagesService;
+
+    private int rightAnswersCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var properties = new MessageSourceProperties();
+        properties.setBasename("messages");
+        properties.setEncoding(StandardCharsets.UTF_8);
+        properties.setFallbackToSystemLocale(false);
+
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(properties.getBasename());
+        messageSource.setDefaultEncoding(properties.getEncoding().name());
+        messageSource.setFallbackToSystemLocale(properties.isFallbackToSystemLocale());
+
+        localizedMessagesService = new LocalizedMessagesServiceImpl(() -> LOCALE, messageSource, properties);
+        localizedMessagesService.warmUp();
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return localizedMessagesService.getMessage("TestService.answer.choose");
+    }
+
+    @Benchmark
+    public String getMessageWithString() {
+        return localizedMessagesService.getMessage("ResultService.student", "Ivan Petrov");
+    }
+
+    @Benchmark
+    public String getMessageWithInt() {
+        rightAnswersCount = (rightAnswersCount + 1) & 0xff;
+        return localizedMessagesService.getMessage("ResultService.right.answers.count", rightAnswersCount);
+    }
+
+    @Benchmark
+    public String messageSourceWithInt() {
+        rightAnswersCount = (rightAnswersCount + 1) & 0xff;
+        return messageSource.getMessage("ResultService.right.answers.count", new Object[]{rightAnswersCount},
+                LOCALE);
+    }
+}
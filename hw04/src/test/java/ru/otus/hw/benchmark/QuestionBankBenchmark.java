@@ -0,0 +1,108 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.dao.BinaryQuestionDao;
+import ru.otus.hw.dao.CsvQuestionDao;
+import ru.otus.hw.dao.PlainCsvQuestionDao;
+import ru.otus.hw.dao.binary.QuestionBankWriter;
+import ru.otus.hw.domain.Question;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class QuestionBankBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private Path csvFile;
+
+    private Path bankFile;
+
+    private CsvQuestionDao csvQuestionDao;
+
+    private PlainCsvQuestionDao plainCsvQuestionDao;
+
+    private BinaryQuestionDao binaryQuestionDao;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = QuestionBankGenerator.generateOnClassPath(rows);
+        var csvFileName = csvFile.getFileName().toString();
+        bankFile = csvFile.resolveSibling(csvFileName.replace(".csv", ".qbank"));
+
+        csvQuestionDao = new CsvQuestionDao(() -> csvFileName);
+        plainCsvQuestionDao = new PlainCsvQuestionDao(() -> csvFileName);
+        binaryQuestionDao = new BinaryQuestionDao(() -> "file:" + bankFile);
+
+        try (var questions = plainCsvQuestionDao.streamAll()) {
+            QuestionBankWriter.write(questions.iterator(), bankFile);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(bankFile);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<Question> findAllOpenCsv() {
+        return csvQuestionDao.findAll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<Question> findAllPlainCsv() {
+        return plainCsvQuestionDao.findAll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<Question> findAllBinary() {
+        return binaryQuestionDao.findAll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(value = 5, jvmArgs = {"-Xms2g", "-Xmx2g"})
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public List<Question> coldStartOpenCsv() {
+        return csvQuestionDao.findAll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(value = 5, jvmArgs = {"-Xms2g", "-Xmx2g"})
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public List<Question> coldStartBinary() {
+        return binaryQuestionDao.findAll();
+    }
+}
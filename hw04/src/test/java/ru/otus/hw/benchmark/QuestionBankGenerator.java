@@ -0,0 +1,79 @@
+package ru.otus.hw.benchmark;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class QuestionBankGenerator {
+
+    private static final long SEED = 42L;
+
+    private static final int DIFFICULTY_LEVELS = 3;
+
+    private QuestionBankGenerator() {
+    }
+
+    public static Path generateOnClassPath(int rows) throws IOException {
+        try {
+            var classPathRoot = Path.of(QuestionBankGenerator.class.getProtectionDomain()
+                    .getCodeSource().getLocation().toURI());
+            return generate(classPathRoot.resolve("benchmark_questions_%d.csv".formatted(rows)), rows);
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static Path generate(Path file, int rows) throws IOException {
+        var random = new Random(SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Generated question bank, this line is skipped");
+            writer.newLine();
+            for (int row = 0; row < rows; row++) {
+                int answersCount = 2 + random.nextInt(4);
+                int rightAnswer = random.nextInt(answersCount);
+                if (row % 10 == 0) {
+                    writer.write("\"Question number %d with \"\"quoted\"\" text; and separator?\"".formatted(row));
+                } else {
+                    writer.write("Question number %d about something important?".formatted(row));
+                }
+                writer.write(';');
+                for (int answer = 0; answer < answersCount; answer++) {
+                    if (answer > 0) {
+                        writer.write('|');
+                    }
+                    writer.write("Answer option %d for question %d%%%b".formatted(answer, row, answer == rightAnswer));
+                }
+                writer.write(';');
+                writer.write(Integer.toString(1 + row % DIFFICULTY_LEVELS));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    public static List<Question> generateQuestions(int rows) {
+        var random = new Random(SEED);
+        List<Question> questions = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            int answersCount = 2 + random.nextInt(4);
+            int rightAnswer = random.nextInt(answersCount);
+            List<Answer> answers = new ArrayList<>(answersCount);
+            for (int answer = 0; answer < answersCount; answer++) {
+                answers.add(new Answer("Answer option %d for question %d".formatted(answer, row),
+                        answer == rightAnswer));
+            }
+            questions.add(new Question("Question number %d about something important?".formatted(row),
+                    List.copyOf(answers), 1 + row % DIFFICULTY_LEVELS, row));
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,64 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.dao.CsvQuestionDao;
+import ru.otus.hw.dao.PlainCsvQuestionDao;
+import ru.otus.hw.domain.Question;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class QuestionDaoBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private Path questionFile;
+
+    private CsvQuestionDao csvQuestionDao;
+
+    private PlainCsvQuestionDao plainCsvQuestionDao;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        questionFile = QuestionBankGenerator.generateOnClassPath(rows);
+        csvQuestionDao = new CsvQuestionDao(() -> questionFile.getFileName().toString());
+        plainCsvQuestionDao = new PlainCsvQuestionDao(() -> questionFile.getFileName().toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(questionFile);
+    }
+
+    @Benchmark
+    public List<Question> openCsvFindAll() {
+        return csvQuestionDao.findAll();
+    }
+
+    @Benchmark
+    public List<Question> plainCsvFindAll() {
+        return plainCsvQuestionDao.findAll();
+    }
+}
@@ -0,0 +1,98 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import ru.otus.hw.config.QuestionSelectionConfig;
+import ru.otus.hw.config.QuestionSelectionMode;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+import ru.otus.hw.service.LocalizedIOServiceImpl;
+import ru.otus.hw.service.LocalizedMessagesServiceImpl;
+import ru.otus.hw.service.QuestionSelectionServiceImpl;
+import ru.otus.hw.service.ScriptedIOService;
+import ru.otus.hw.service.TestServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestServiceBenchmark {
+
+    private static final Locale LOCALE = Locale.forLanguageTag("en-US");
+
+    private static final Student STUDENT = new Student("Ivan", "Petrov");
+
+    @Param({"10", "1000"})
+    private int questions;
+
+    @Param({"all", "random"})
+    private String selection;
+
+    private List<Question> bank;
+
+    private LocalizedMessagesServiceImpl localizedMessagesService;
+
+    private TestServiceImpl testService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bank = QuestionBankGenerator.generateQuestions(questions);
+
+        var properties = new MessageSourceProperties();
+        properties.setBasename("messages");
+        properties.setEncoding(StandardCharsets.UTF_8);
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(properties.getBasename());
+        messageSource.setDefaultEncoding(properties.getEncoding().name());
+        localizedMessagesService = new LocalizedMessagesServiceImpl(() -> LOCALE, messageSource, properties);
+        localizedMessagesService.warmUp();
+
+        var selectionMode = QuestionSelectionMode.valueOf(selection.toUpperCase(Locale.ROOT));
+        QuestionSelectionConfig selectionConfig = new QuestionSelectionConfig() {
+            @Override
+            public QuestionSelectionMode getQuestionSelection() {
+                return selectionMode;
+            }
+
+            @Override
+            public int getQuestionsPerSession() {
+                return Math.max(1, questions / 10);
+            }
+
+            @Override
+            public boolean isStopWhenDecided() {
+                return false;
+            }
+        };
+        // ioService нужен только для executeTestFor(Student), здесь используется IOService сессии
+        testService = new TestServiceImpl(null, () -> bank, new QuestionSelectionServiceImpl(selectionConfig),
+                () -> 3, selectionConfig);
+    }
+
+    @Benchmark
+    public TestResult executeTestFor() {
+        var sessionIOService = new LocalizedIOServiceImpl(localizedMessagesService,
+                new ScriptedIOService(STUDENT.firstName(), STUDENT.lastName(), (min, max) -> min, questions));
+        return testService.executeTestFor(STUDENT, sessionIOService, bank.stream());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.otus.hw.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import ru.otus.hw.Application;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+import ru.otus.hw.service.ScriptedIOService;
+import ru.otus.hw.service.TestSessionService;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Нагрузочный прогон, четные студенты проходят тест на en-US, нечетные - на ru-RU. Запуск:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=ru.otus.hw.benchmark.TestSessionLoadHarness -Dexec.args="10000 200 50"
+ */
+public final class TestSessionLoadHarness {
+
+    private TestSessionLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int maxConcurrentSessions = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int questions = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        var questionFile = QuestionBankGenerator.generateOnClassPath(questions);
+        try (var context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.shell.interactive.enabled=false",
+                        "--spring.shell.noninteractive.enabled=false",
+                        "--test.locale=en-US",
+                        "--test.fileNameByLocaleTag[en-US]=" + questionFile.getFileName(),
+                        "--test.fileNameByLocaleTag[ru-RU]=" + questionFile.getFileName(),
+                        "--test.maxConcurrentSessions=" + maxConcurrentSessions)) {
+
+            var testSessionService = context.getBean(TestSessionService.class);
+            run(testSessionService, students, questions, maxConcurrentSessions);
+        } finally {
+            Files.deleteIfExists(questionFile);
+        }
+    }
+
+    private static void run(TestSessionService testSessionService, int students, int questions,
+                            int maxConcurrentSessions) {
+        List<ScriptedIOService> ioServices = new ArrayList<>(students);
+        List<CompletableFuture<TestResult>> sessions = new ArrayList<>(students);
+        var locales = new Locale[]{Locale.forLanguageTag("en-US"), Locale.forLanguageTag("ru-RU")};
+
+        long start = System.nanoTime();
+        for (int i = 0; i < students; i++) {
+            var ioService = new ScriptedIOService("First" + i, "Last" + i,
+                    (min, max) -> ThreadLocalRandom.current().nextInt(min, max + 1), questions);
+            ioServices.add(ioService);
+            sessions.add(testSessionService.startSession(new Student("First" + i, "Last" + i), ioService,
+                    locales[i % locales.length]));
+        }
+        CompletableFuture.allOf(sessions.toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - start;
+
+        var latencies = new long[students * questions];
+        long answered = 0;
+        for (var ioService : ioServices) {
+            var sessionLatencies = ioService.getQuestionLatencies();
+            System.arraycopy(sessionLatencies, 0, latencies, (int) answered, sessionLatencies.length);
+            answered += ioService.getAnsweredCount();
+        }
+        Arrays.sort(latencies);
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("students=%d questions=%d maxConcurrentSessions=%d%n",
+                students, questions, maxConcurrentSessions);
+        System.out.printf("elapsed=%.3f s, sessions/s=%.0f, answered questions/s=%.0f%n",
+                seconds, students / seconds, answered / seconds);
+        System.out.printf("latency per answered question: p50=%.1f us, p99=%.1f us, max=%.1f us%n",
+                percentile(latencies, 0.50) / 1e3, percentile(latencies, 0.99) / 1e3,
+                latencies[latencies.length - 1] / 1e3);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,52 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.service.QuestionBankService;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class BinaryQuestionDaoTest {
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private CsvQuestionDao csvQuestionDao;
+
+    @Autowired
+    private QuestionDao questionDao;
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("Should read the same questions from compiled bank as from csv file")
+    @Test
+    void testReadCompiledBank() {
+
+        var bankFile = tempDir.resolve("questions_test_ru.qbank");
+        var compiledCount = questionBankService.compile("questions_test_ru.csv", bankFile.toString());
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("file:" + bankFile);
+
+        List<Question> questionList = questionDao.findAll();
+
+        assertAll("Should read the same questions from compiled bank as from csv file",
+                () -> assertEquals(5, compiledCount),
+                () -> assertEquals(csvQuestionDao.findAll("questions_test_ru.csv"), questionList));
+    }
+}
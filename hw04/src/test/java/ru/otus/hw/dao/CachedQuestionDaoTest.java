@@ -0,0 +1,63 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+
+@SpringBootTest
+public class CachedQuestionDaoTest {
+
+    private static final String TEST_FILE_NAME = "questions_test.csv";
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @SpyBean
+    private CsvQuestionDao spyCsvQuestionDao;
+
+    @Autowired
+    private CachedQuestionDao cachedQuestionDao;
+
+    @DisplayName("Should parse question file only once")
+    @Test
+    void testParseFileOnlyOnce() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn(TEST_FILE_NAME);
+
+        List<Question> firstQuestionList = cachedQuestionDao.findAll();
+        List<Question> secondQuestionList = cachedQuestionDao.findAll();
+
+        assertAll("Should parse question file only once",
+                () -> assertEquals(5, firstQuestionList.size()),
+                () -> assertSame(firstQuestionList, secondQuestionList));
+        Mockito.verify(spyCsvQuestionDao, times(1)).findAll(TEST_FILE_NAME);
+    }
+
+    @DisplayName("Should reload question file after it was modified")
+    @Test
+    void testReloadModifiedFile() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn(TEST_FILE_NAME);
+        Mockito.doReturn(1L, 2L).when(spyCsvQuestionDao).getLastModified(TEST_FILE_NAME);
+
+        List<Question> firstQuestionList = cachedQuestionDao.findAll();
+        List<Question> secondQuestionList = cachedQuestionDao.findAll();
+
+        assertNotSame(firstQuestionList, secondQuestionList);
+        Mockito.verify(spyCsvQuestionDao, times(2)).findAll(TEST_FILE_NAME);
+    }
+}
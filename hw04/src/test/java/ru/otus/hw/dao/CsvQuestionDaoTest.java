@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Answer;
 import ru.otus.hw.domain.Question;
 
 import java.util.List;
@@ -37,4 +38,34 @@ public class CsvQuestionDaoTest {
 
     }
 
+    @DisplayName("Should stream questions skipping first line in file")
+    @Test
+    void testStreamSkipFirstLineInFile() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test.csv");
+
+        List<Question> questionList;
+        try (var questions = csvQuestionDao.streamAll()) {
+            questionList = questions.toList();
+        }
+
+        assertAll("Should stream questions skipping first line in file",
+                () -> assertEquals(5, questionList.size()),
+                () -> assertEquals("Is there life on Mars?", questionList.get(0).text()));
+    }
+
+    @DisplayName("Should read optional difficulty column")
+    @Test
+    void testReadDifficulty() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test_difficulty.csv");
+
+        List<Question> questionList = csvQuestionDao.findAll();
+
+        assertAll("Should read optional difficulty column",
+                () -> assertEquals(List.of(1, Question.DEFAULT_DIFFICULTY, 3),
+                        questionList.stream().map(Question::difficulty).toList()),
+                () -> assertEquals("Hard \"quoted\" question", questionList.get(2).text()),
+                () -> assertEquals(new Answer("No", true), questionList.get(2).answers().get(1)));
+    }
 }
@@ -0,0 +1,71 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class MappedFileQuestionDaoTest {
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @Autowired
+    private QuestionDao questionDao;
+
+    @Autowired
+    private MappedFileQuestionDao mappedFileQuestionDao;
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("Should read questions from file system when path has file: prefix")
+    @Test
+    void testReadQuestionsFromFileSystem() throws IOException {
+
+        var questionFile = copyToTempDir("questions_test_ru.csv");
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("file:" + questionFile);
+
+        List<Question> questionList = questionDao.findAll();
+
+        assertAll("Should read questions from file system when path has file: prefix",
+                () -> assertEquals(5, questionList.size()),
+                () -> assertEquals("Есть ли жизнь на Марсе?", questionList.get(0).text()),
+                () -> assertSame(questionList, questionDao.findAll()));
+    }
+
+    @DisplayName("Should throw QuestionReadException when file does not exist")
+    @Test
+    void testThrowExceptionForMissingFile() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("file:" + tempDir.resolve("missing.csv"));
+
+        assertThrows(QuestionReadException.class, () -> mappedFileQuestionDao.findAll());
+    }
+
+    private Path copyToTempDir(String resourceName) throws IOException {
+        var target = tempDir.resolve(resourceName);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourceName)) {
+            Files.copy(inputStream, target);
+        }
+        return target;
+    }
+}
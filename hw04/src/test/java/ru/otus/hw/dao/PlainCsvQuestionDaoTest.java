@@ -0,0 +1,71 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "test.csvParser=plain")
+public class PlainCsvQuestionDaoTest {
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @Autowired
+    private PlainCsvQuestionDao plainCsvQuestionDao;
+
+    @DisplayName("Should skip first line in file")
+    @Test
+    void testSkipFirstLineInFile() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test.csv");
+
+        List<Question> questionList = plainCsvQuestionDao.findAll();
+
+        assertAll("Should skip first line in file",
+                () -> assertEquals(5, questionList.size()),
+                () -> assertEquals("Is there life on Mars?", questionList.get(0).text()));
+    }
+
+    @DisplayName("Should parse quoted fields and answers like opencsv")
+    @Test
+    void testParseQuotedFieldsAndAnswers() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test.csv");
+
+        List<Question> questionList = plainCsvQuestionDao.findAll();
+
+        assertAll("Should parse quoted fields and answers like opencsv",
+                () -> assertEquals("What will be the value of the variable \"result\"?  "
+                        + "int i = 10; int j = 25; i += 5; j /= i; int result = i + j;", questionList.get(4).text()),
+                () -> assertEquals(List.of(new Answer("35", false), new Answer("16", true),
+                        new Answer("12", false), new Answer("11", false)), questionList.get(4).answers()),
+                () -> assertEquals(new Answer("Science doesn't know this yet", true),
+                        questionList.get(0).answers().get(0)));
+    }
+
+    @DisplayName("Should read optional difficulty column")
+    @Test
+    void testReadDifficulty() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test_difficulty.csv");
+
+        List<Question> questionList = plainCsvQuestionDao.findAll();
+
+        assertAll("Should read optional difficulty column",
+                () -> assertEquals(List.of(1, Question.DEFAULT_DIFFICULTY, 3),
+                        questionList.stream().map(Question::difficulty).toList()),
+                () -> assertEquals("Hard \"quoted\" question", questionList.get(2).text()),
+                () -> assertEquals(new Answer("No", true), questionList.get(2).answers().get(1)));
+    }
+}
@@ -0,0 +1,85 @@
+package ru.otus.hw.dao.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.exceptions.ResultJournalException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultJournalTest {
+
+    private static final int SEGMENT_RECORDS = 3;
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("Should read back records across segments and after reopening journal")
+    @Test
+    void testAppendAcrossSegmentsAndReopen() throws Exception {
+
+        var records = IntStream.range(0, 12)
+                .mapToObj(i -> new ResultRecord(1_700_000_000_000L + i, ResultJournalFormat.hashName("Student " + i),
+                        i % 5, 5))
+                .toList();
+
+        var writer = ResultJournalWriter.open(tempDir, SEGMENT_RECORDS);
+        writer.append(records.subList(0, 4));
+        writer.append(records.subList(4, 8));
+        writer.close();
+
+        // Второй запуск продолжает недописанный сегмент, а не начинает новый
+        var reopened = ResultJournalWriter.open(tempDir, SEGMENT_RECORDS);
+        reopened.append(records.subList(8, 12));
+        reopened.close();
+
+        List<ResultRecord> readRecords;
+        try (var stream = ResultJournalReader.stream(tempDir)) {
+            readRecords = stream.toList();
+        }
+        long segmentsCount;
+        try (var files = Files.list(tempDir)) {
+            segmentsCount = files.count();
+        }
+
+        assertAll("Should read back records across segments and after reopening journal",
+                () -> assertEquals(records, readRecords),
+                () -> assertEquals(4, segmentsCount));
+    }
+
+    @DisplayName("Should count records written before a failure in the middle of a batch")
+    @Test
+    void testAppendedCountOnFailure() throws Exception {
+
+        var records = IntStream.range(0, SEGMENT_RECORDS + 2)
+                .mapToObj(i -> new ResultRecord(1_700_000_000_000L + i, ResultJournalFormat.hashName("Student " + i),
+                        i % 5, 5))
+                .toList();
+        var writer = ResultJournalWriter.open(tempDir, SEGMENT_RECORDS);
+        // Следующий сегмент не создать: на его месте каталог
+        Files.createDirectory(ResultJournalFormat.segmentPath(tempDir, 2));
+
+        assertThrows(ResultJournalException.class, () -> writer.append(records));
+        assertEquals(SEGMENT_RECORDS, writer.getAppendedCount());
+    }
+
+    @DisplayName("Should keep every record within one memory page")
+    @Test
+    void testRecordsDoNotCrossPages() {
+
+        int page = 4096;
+        for (int i = 0; i < 10_000; i++) {
+            long offset = ResultJournalFormat.offsetOf(i);
+            assertEquals(offset / page, (offset + ResultJournalFormat.RECORD_SIZE - 1) / page,
+                    "Record " + i + " crosses a page boundary");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.otus.hw.dao.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.domain.Student;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerSheetParserTest {
+
+    private static final String TEXT = """
+            # имя;фамилия;ответы
+            Иван;Петров;1,3,2
+            Ivan;Ivanov; 2 , x ,,4\r
+
+            broken line without separators
+            Пётр;Сидоров;
+            Anna;Smirnova;1,12345678901,2""";
+
+    @DisplayName("Should parse names and answers without exceptions for any buffer size")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 64, 1 << 20})
+    void testParseAnswerSheets(int bufferSize) throws Exception {
+
+        List<AnswerSheet> sheets;
+        var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        try (var parser = new AnswerSheetParser(Channels.newChannel(new ByteArrayInputStream(bytes)), bufferSize)) {
+            sheets = parser.stream().toList();
+        }
+
+        assertAll("Should parse names and answers without exceptions",
+                () -> assertEquals(5, sheets.size()),
+                () -> assertEquals(new Student("Иван", "Петров"), sheets.get(0).student()),
+                () -> assertArrayEquals(new int[]{1, 3, 2}, sheets.get(0).answers()),
+                () -> assertArrayEquals(new int[]{2, AnswerSheet.NO_ANSWER, AnswerSheet.NO_ANSWER, 4},
+                        sheets.get(1).answers()),
+                () -> assertTrue(sheets.get(2).isMalformed()),
+                () -> assertEquals(5, sheets.get(2).lineNumber()),
+                () -> assertEquals(new Student("Пётр", "Сидоров"), sheets.get(3).student()),
+                () -> assertArrayEquals(new int[0], sheets.get(3).answers()),
+                () -> assertArrayEquals(new int[]{1, AnswerSheet.NO_ANSWER, 2}, sheets.get(4).answers()));
+    }
+}
@@ -0,0 +1,59 @@
+package ru.otus.hw.dao.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedFileReaderTest {
+
+    private static final String TEXT = "Есть ли жизнь на Марсе?;Это науке пока не известно%true|Точно нет%false\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("Should decode multibyte characters split by region boundary")
+    @Test
+    void testDecodeCharactersSplitByRegionBoundary() throws IOException {
+
+        var file = Files.writeString(tempDir.resolve("questions.csv"), TEXT, StandardCharsets.UTF_8);
+
+        var result = new StringBuilder();
+        try (var reader = new MappedFileReader(FileChannel.open(file, StandardOpenOption.READ), 7)) {
+            var buffer = new char[5];
+            int count;
+            while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+                result.append(buffer, 0, count);
+            }
+        }
+
+        assertEquals(TEXT, result.toString());
+    }
+
+    @DisplayName("Should decode supplementary characters into one-char buffer")
+    @Test
+    void testDecodeSupplementaryCharactersIntoOneCharBuffer() throws IOException {
+
+        var text = "Ответ \uD83D\uDE00;\uD83D\uDC4D\n";
+        var file = Files.writeString(tempDir.resolve("emoji.csv"), text, StandardCharsets.UTF_8);
+
+        var result = new StringBuilder();
+        try (var reader = new MappedFileReader(FileChannel.open(file, StandardOpenOption.READ), 5)) {
+            var buffer = new char[1];
+            int count;
+            while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+                result.append(buffer, 0, count);
+            }
+        }
+
+        assertEquals(text, result.toString());
+    }
+}
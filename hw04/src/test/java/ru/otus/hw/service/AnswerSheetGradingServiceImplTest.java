@@ -0,0 +1,102 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class AnswerSheetGradingServiceImplTest {
+
+    // Больше одной пачки, чтобы проверка и запись пачек шли одновременно
+    private static final int SHEETS_COUNT = 20_000;
+
+    @Autowired
+    private AnswerSheetGradingService answerSheetGradingService;
+
+    @Autowired
+    private QuestionDao questionDao;
+
+    @DisplayName("Should grade answer sheets and count invalid answers and malformed lines")
+    @Test
+    void testGradeAnswerSheets(@TempDir Path tempDir) throws Exception {
+
+        var questions = questionDao.findAll();
+        var rightAnswers = questions.stream()
+                .map(question -> Integer.toString(rightAnswer(question)))
+                .collect(Collectors.joining(","));
+        var wrongAnswers = questions.stream()
+                .map(question -> Integer.toString(rightAnswer(question) % question.answers().size() + 1))
+                .collect(Collectors.joining(","));
+        var invalidAnswers = questions.stream()
+                .map(question -> "x")
+                .collect(Collectors.joining(","));
+        var answerFile = Files.write(tempDir.resolve("answers.txt"), List.of(
+                "# first;last;answers",
+                "Right;Student;" + rightAnswers,
+                "Wrong;Student;" + wrongAnswers,
+                "Invalid;Student;" + invalidAnswers,
+                "malformed line"), StandardCharsets.UTF_8);
+
+        var summary = answerSheetGradingService.grade("file:" + answerFile);
+
+        assertAll("Should grade answer sheets",
+                () -> assertEquals(3, summary.sheetsCount()),
+                () -> assertEquals(1, summary.passedCount()),
+                () -> assertEquals(3L * questions.size(), summary.answersCount()),
+                () -> assertEquals(questions.size(), summary.invalidAnswersCount()),
+                () -> assertEquals(1, summary.malformedLinesCount()),
+                () -> assertEquals(0, summary.journalDroppedCount()));
+    }
+
+    @DisplayName("Should write results of parallel grading in order of answer sheets")
+    @Test
+    void testWriteResultsInSheetOrder(@TempDir Path tempDir) throws Exception {
+
+        var questions = questionDao.findAll();
+        var rightAnswers = questions.stream()
+                .map(question -> Integer.toString(rightAnswer(question)))
+                .collect(Collectors.joining(","));
+        List<String> lines = new ArrayList<>(SHEETS_COUNT);
+        for (int i = 0; i < SHEETS_COUNT; i++) {
+            lines.add("First%d;Last%d;%s".formatted(i, i, i % 3 == 0 ? "" : rightAnswers));
+        }
+        var answerFile = Files.write(tempDir.resolve("answers.txt"), lines, StandardCharsets.UTF_8);
+        var resultFile = tempDir.resolve("results.txt");
+
+        var summary = answerSheetGradingService.grade(answerFile.toString(), resultFile);
+
+        var results = Files.readAllLines(resultFile, StandardCharsets.UTF_8);
+        assertAll("Should write results in order of answer sheets",
+                () -> assertEquals(SHEETS_COUNT, summary.sheetsCount()),
+                () -> assertEquals(SHEETS_COUNT - (SHEETS_COUNT + 2) / 3, summary.passedCount()),
+                () -> assertEquals(SHEETS_COUNT + 1, results.size()),
+                () -> assertEquals("1;First0;Last0;0;%d;false".formatted(questions.size()), results.get(1)),
+                () -> assertEquals("%d;First%d;Last%d;%d;%d;true".formatted(SHEETS_COUNT, SHEETS_COUNT - 1,
+                        SHEETS_COUNT - 1, questions.size(), questions.size()), results.get(SHEETS_COUNT)));
+    }
+
+    private static int rightAnswer(Question question) {
+        List<Answer> answers = question.answers();
+        for (int i = 0; i < answers.size(); i++) {
+            if (answers.get(i).isCorrect()) {
+                return i + 1;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,66 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BufferedStreamsIOServiceTest {
+
+    private static final String LS = System.lineSeparator();
+
+    @DisplayName("Should write buffered output only before reading input")
+    @Test
+    void testFlushBeforeRead() {
+
+        var outputStream = new ByteArrayOutputStream();
+        var inputStream = new ByteArrayInputStream(("7" + LS + "2" + LS).getBytes(StandardCharsets.UTF_8));
+        var ioService = new BufferedStreamsIOService(
+                new PrintStream(outputStream, true, StandardCharsets.UTF_8), inputStream);
+
+        ioService.printLine("Question");
+        ioService.printFormattedLine("%d. %s", 1, "Answer");
+        var outputBeforeRead = outputStream.toString(StandardCharsets.UTF_8);
+
+        var answer = ioService.readIntForRangeWithPrompt(1, 2, "Choose", "Error");
+
+        assertAll("Should write buffered output only before reading input",
+                () -> assertEquals("", outputBeforeRead),
+                () -> assertEquals(2, answer),
+                () -> assertEquals("Question" + LS + "1. Answer" + LS + "Choose" + LS + "Error" + LS,
+                        outputStream.toString(StandardCharsets.UTF_8)));
+    }
+
+    @DisplayName("Should format cached patterns the same way as String.format")
+    @Test
+    void testFormatLikeStringFormat() {
+
+        var outputStream = new ByteArrayOutputStream();
+        var ioService = new BufferedStreamsIOService(
+                new PrintStream(outputStream, true, StandardCharsets.UTF_8), new ByteArrayInputStream(new byte[0]));
+        Object[][] lines = {
+            {"%d. %s", -12, "Answer"},
+            {"%s of %d (100%%)%n%s", null, Long.MAX_VALUE, 3.5},
+            {"%d. %s", 2, "Answer"},
+            {"%5d|%-4s|%.2f", 7, "ab", 1.5},
+            {"no arguments"}
+        };
+
+        var expected = new StringBuilder();
+        for (Object[] line : lines) {
+            var args = Arrays.copyOfRange(line, 1, line.length);
+            ioService.printFormattedLine((String) line[0], args);
+            expected.append(String.format((String) line[0], args)).append(LS);
+        }
+        ioService.flush();
+
+        assertEquals(expected.toString(), outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class LocalizedMessagesServiceImplTest {
+
+    private static final Locale LOCALE = Locale.forLanguageTag("en-US");
+
+    @Autowired
+    private LocalizedMessagesServiceImpl localizedMessagesService;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @DisplayName("Should format messages without arguments and with one string argument like MessageSource")
+    @Test
+    void testFormatLikeMessageSource() {
+        assertAll("Should format messages like MessageSource",
+                () -> assertEquals(messageSource.getMessage("TestService.answer.choose", null, LOCALE),
+                        localizedMessagesService.getMessage("TestService.answer.choose")),
+                () -> assertEquals(
+                        messageSource.getMessage("ResultService.student", new Object[]{"Ivan Petrov"}, LOCALE),
+                        localizedMessagesService.getMessage("ResultService.student", "Ivan Petrov")),
+                () -> assertEquals("Student: Ivan Petrov",
+                        localizedMessagesService.getMessage("ResultService.student", (Object) "Ivan Petrov")));
+    }
+
+    @DisplayName("Should format int argument like MessageSource")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 7, 999, 1000, 123456, -5})
+    void testFormatIntLikeMessageSource(int value) {
+        assertEquals(messageSource.getMessage("ResultService.right.answers.count", new Object[]{value}, LOCALE),
+                localizedMessagesService.getMessage("ResultService.right.answers.count", value));
+    }
+}
@@ -0,0 +1,75 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.otus.hw.dao.journal.ResultJournalFormat;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.ResultRecord;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {"test.resultJournal=true", "test.resultJournalSegmentRecords=10000"})
+public class MappedResultJournalServiceTest {
+
+    private static final int SESSIONS_COUNT = 1000;
+
+    // Больше емкости очереди: без ожидания места в ней часть пачки была бы отброшена
+    private static final int GRADED_COUNT = 100_000;
+
+    @TempDir
+    private static Path journalDir;
+
+    @Autowired
+    private MappedResultJournalService resultJournalService;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("test.resultJournalDirectory", journalDir::toString);
+    }
+
+    @DisplayName("Should store results of concurrent sessions and graded batches in journal")
+    @Test
+    void testAppendConcurrentSessions() throws InterruptedException {
+
+        var question = new Question("Question", List.of(new Answer("Answer", true)), 0, 0);
+        IntStream.range(0, SESSIONS_COUNT).parallel().forEach(session -> {
+            var testResult = new TestResult(new Student("First" + session, "Last" + session));
+            testResult.applyAnswer(question, session % 2 == 0);
+            resultJournalService.append(testResult);
+        });
+        var graded = IntStream.range(0, GRADED_COUNT)
+                .mapToObj(sheet -> new TestResult(new Student("Graded" + sheet, "Sheet")))
+                .toList();
+        resultJournalService.appendAll(graded);
+        resultJournalService.stop();
+
+        var hashes = IntStream.range(0, SESSIONS_COUNT)
+                .mapToObj(session -> ResultJournalFormat.hashName("First" + session + " Last" + session))
+                .toList();
+        try (var records = resultJournalService.readAll()) {
+            var stored = records.toList();
+            assertAll("Should store results of concurrent sessions and graded batches in journal",
+                    () -> assertEquals(SESSIONS_COUNT + GRADED_COUNT, stored.size()),
+                    () -> assertEquals(SESSIONS_COUNT / 2,
+                            stored.stream().filter(record -> record.rightAnswersCount() == 1).count()),
+                    () -> assertEquals(hashes.stream().sorted().toList(),
+                            stored.stream().map(ResultRecord::studentNameHash)
+                                    .filter(Set.copyOf(hashes)::contains).sorted().toList()),
+                    () -> assertEquals(0, resultJournalService.getDroppedCount()));
+        }
+    }
+}
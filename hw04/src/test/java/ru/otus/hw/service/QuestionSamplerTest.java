@@ -0,0 +1,83 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuestionSamplerTest {
+
+    private static final int BANK_SIZE = 1000;
+
+    private static final int SAMPLE_SIZE = 10;
+
+    private static final int RUNS = 20_000;
+
+    @DisplayName("Should sample every question with equal probability")
+    @Test
+    void testUniformSample() {
+
+        var bank = createBank(BANK_SIZE, i -> Question.DEFAULT_DIFFICULTY);
+        var random = new Random(42);
+        var hits = new int[BANK_SIZE];
+
+        for (int run = 0; run < RUNS; run++) {
+            var sample = QuestionSampler.sample(bank.iterator(), SAMPLE_SIZE, random);
+            assertEquals(SAMPLE_SIZE, new HashSet<>(sample).size());
+            sample.forEach(question -> hits[Integer.parseInt(question.text())]++);
+        }
+
+        // Ожидается RUNS * SAMPLE_SIZE / BANK_SIZE = 200 попаданий на вопрос, сравниваем половины банка
+        var firstHalf = IntStream.range(0, BANK_SIZE / 2).map(i -> hits[i]).sum();
+        var secondHalf = IntStream.range(BANK_SIZE / 2, BANK_SIZE).map(i -> hits[i]).sum();
+        assertTrue(Math.abs(firstHalf - secondHalf) < RUNS * SAMPLE_SIZE / 20,
+                "first half " + firstHalf + ", second half " + secondHalf);
+    }
+
+    @DisplayName("Should return whole bank when it is smaller than sample")
+    @Test
+    void testSmallBank() {
+
+        var bank = createBank(3, i -> Question.DEFAULT_DIFFICULTY);
+
+        var sample = QuestionSampler.sample(bank.iterator(), SAMPLE_SIZE, new Random(42));
+
+        assertEquals(new HashSet<>(bank), new HashSet<>(sample));
+    }
+
+    @DisplayName("Should pick questions proportionally to difficulty strata")
+    @Test
+    void testStratifiedSample() {
+
+        var bank = createBank(BANK_SIZE, i -> i % 10 < 6 ? 1 : i % 10 < 9 ? 2 : 3);
+
+        var sample = QuestionSampler.sampleStratified(bank.iterator(), SAMPLE_SIZE, new Random(42));
+        Map<Integer, Long> byDifficulty = sample.stream()
+                .collect(Collectors.groupingBy(Question::difficulty, Collectors.counting()));
+
+        assertAll("Should pick questions proportionally to difficulty strata",
+                () -> assertEquals(Map.of(1, 6L, 2, 3L, 3, 1L), byDifficulty),
+                () -> assertEquals(SAMPLE_SIZE, new HashSet<>(sample).size()),
+                () -> assertEquals(List.of(1, 1, 1, 1, 1, 1, 2, 2, 2, 3),
+                        sample.stream().map(Question::difficulty).toList()));
+    }
+
+    private static List<Question> createBank(int size, Function<Integer, Integer> difficulty) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Question(String.valueOf(i), List.of(new Answer("answer", true)),
+                        difficulty.apply(i)))
+                .toList();
+    }
+}
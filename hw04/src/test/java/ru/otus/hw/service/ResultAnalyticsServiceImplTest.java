@@ -0,0 +1,177 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.dao.LocalizedQuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionStatistics;
+import ru.otus.hw.domain.ResultStatistics;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest
+public class ResultAnalyticsServiceImplTest {
+
+    private static final int SESSIONS_COUNT = 10_000;
+
+    private static final int QUESTIONS_COUNT = 4;
+
+    private static final Locale EN = Locale.forLanguageTag("en-US");
+
+    private static final Locale RU = Locale.forLanguageTag("ru-RU");
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @Autowired
+    private ResultAnalyticsServiceImpl resultAnalyticsService;
+
+    @Autowired
+    private LocalizedQuestionDao questionDao;
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("Should aggregate results of concurrent sessions per question")
+    @Test
+    void testCollectConcurrentSessions() {
+
+        Mockito.when(mockAppProperties.getRightAnswersCountToPass()).thenReturn(3);
+        Mockito.when(mockAppProperties.getLocale()).thenReturn(EN);
+        Mockito.when(mockAppProperties.getTestFileName(any(Locale.class))).thenReturn("questions_test.csv");
+        var questions = IntStream.range(0, QUESTIONS_COUNT)
+                .mapToObj(index -> new Question("Question" + index, List.of(new Answer("Answer", true)),
+                        Question.DEFAULT_DIFFICULTY, index))
+                .toList();
+
+        // Контекст общий с другими тестами, поэтому сравниваем приращения
+        var before = resultAnalyticsService.getStatistics();
+
+        IntStream.range(0, SESSIONS_COUNT).parallel().forEach(session -> {
+            var testResult = new TestResult(new Student("First" + session, "Last" + session));
+            for (Question question : questions) {
+                testResult.applyAnswer(question, session % 2 == 0 || question.index() == 0);
+            }
+            resultAnalyticsService.collect(testResult);
+        });
+
+        var after = resultAnalyticsService.getStatistics();
+        var half = SESSIONS_COUNT / 2;
+        var askedDelta = IntStream.range(0, QUESTIONS_COUNT)
+                .mapToLong(index -> question(after, EN, index).askedCount() - question(before, EN, index).askedCount())
+                .toArray();
+        var rightDelta = IntStream.range(0, QUESTIONS_COUNT)
+                .mapToLong(index -> question(after, EN, index).rightCount() - question(before, EN, index).rightCount())
+                .toArray();
+        assertAll("Should aggregate results of concurrent sessions per question",
+                () -> assertEquals(SESSIONS_COUNT, after.sessionsCount() - before.sessionsCount()),
+                () -> assertEquals(half, after.passedCount() - before.passedCount()),
+                () -> assertEquals(half, score(after, 1) - score(before, 1)),
+                () -> assertEquals(half, score(after, QUESTIONS_COUNT) - score(before, QUESTIONS_COUNT)),
+                () -> assertArrayEquals(new long[]{SESSIONS_COUNT, SESSIONS_COUNT, SESSIONS_COUNT, SESSIONS_COUNT},
+                        askedDelta),
+                () -> assertArrayEquals(new long[]{SESSIONS_COUNT, half, half, half}, rightDelta));
+    }
+
+    @DisplayName("Should count questions of different banks separately")
+    @Test
+    void testCollectPerBank() {
+
+        Mockito.when(mockAppProperties.getRightAnswersCountToPass()).thenReturn(3);
+        Mockito.when(mockAppProperties.getTestFileName(EN)).thenReturn("questions_test.csv");
+        Mockito.when(mockAppProperties.getTestFileName(RU)).thenReturn("questions_test_ru.csv");
+        var question = new Question("Question", List.of(new Answer("Answer", true)), Question.DEFAULT_DIFFICULTY, 0);
+        questionDao.findAll(EN);
+        questionDao.findAll(RU);
+        var before = resultAnalyticsService.getStatistics();
+
+        var enResult = new TestResult(new Student("First", "Last"));
+        enResult.applyAnswer(question, true);
+        resultAnalyticsService.collect(enResult, EN);
+        var ruResult = new TestResult(new Student("First", "Last"));
+        ruResult.applyAnswer(question, false);
+        resultAnalyticsService.collect(ruResult, RU);
+
+        var after = resultAnalyticsService.getStatistics();
+        var enQuestion = question(after, EN, 0);
+        var ruQuestion = question(after, RU, 0);
+        assertAll("Should count questions of different banks separately",
+                () -> assertEquals(1, enQuestion.askedCount() - question(before, EN, 0).askedCount()),
+                () -> assertEquals(1, enQuestion.rightCount() - question(before, EN, 0).rightCount()),
+                () -> assertEquals(1, ruQuestion.askedCount() - question(before, RU, 0).askedCount()),
+                () -> assertEquals(0, ruQuestion.rightCount() - question(before, RU, 0).rightCount()),
+                () -> assertEquals("Is there life on Mars?", enQuestion.text()),
+                () -> assertEquals("Есть ли жизнь на Марсе?", ruQuestion.text()));
+    }
+
+    @DisplayName("Should number questions in CSV export the same way as in the shell report")
+    @Test
+    void testExportNumbersQuestionsFromOne() throws IOException {
+
+        Mockito.when(mockAppProperties.getTestFileName(any(Locale.class))).thenReturn("questions_test.csv");
+        questionDao.findAll(EN);
+        var question = new Question("Question", List.of(new Answer("Answer", true)), Question.DEFAULT_DIFFICULTY, 0);
+        var testResult = new TestResult(new Student("First", "Last"));
+        testResult.applyAnswer(question, true);
+        resultAnalyticsService.collect(testResult, EN);
+
+        var target = tempDir.resolve("stats.csv");
+        resultAnalyticsService.exportToCsv(target);
+
+        var lines = Files.readAllLines(target, StandardCharsets.UTF_8);
+        assertEquals("locale;question;asked;right;text", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("en-US;1;")
+                && line.endsWith(";\"Is there life on Mars?\"")));
+    }
+
+    @DisplayName("Should not load question bank to show question text")
+    @Test
+    void testStatisticsDoNotLoadBank() {
+
+        var locale = Locale.forLanguageTag("de-DE");
+        Mockito.when(mockAppProperties.getTestFileName(locale)).thenReturn("questions_test_difficulty.csv");
+        var question = new Question("Question", List.of(new Answer("Answer", true)), Question.DEFAULT_DIFFICULTY, 0);
+        var testResult = new TestResult(new Student("First", "Last"));
+        testResult.applyAnswer(question, true);
+        resultAnalyticsService.collect(testResult, locale);
+
+        var statistics = resultAnalyticsService.getStatistics();
+
+        assertAll("Should not load question bank to show question text",
+                () -> assertEquals("", question(statistics, locale, 0).text()),
+                () -> assertTrue(questionDao.findLoaded(locale).isEmpty()));
+    }
+
+    private static QuestionStatistics question(ResultStatistics statistics, Locale locale, int index) {
+        return statistics.questions().stream()
+                .filter(question -> question.locale().equals(locale) && question.questionIndex() == index)
+                .findFirst()
+                .orElse(new QuestionStatistics(locale, index, "", 0, 0));
+    }
+
+    private static long score(ResultStatistics statistics, int rightAnswers) {
+        var histogram = statistics.scoreHistogram();
+        return rightAnswers < histogram.length ? histogram[rightAnswers] : 0;
+    }
+}
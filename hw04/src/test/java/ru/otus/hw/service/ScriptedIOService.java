@@ -0,0 +1,90 @@
+package ru.otus.hw.service;
+
+import java.util.function.IntBinaryOperator;
+
+public class ScriptedIOService implements IOService {
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final IntBinaryOperator answerChooser;
+
+    private final long[] questionLatencies;
+
+    private int answeredCount;
+
+    private int stringsRead;
+
+    private long lastAnswerTime;
+
+    private long printedChars;
+
+    private String lastPrintedLine;
+
+    public ScriptedIOService(String firstName, String lastName, IntBinaryOperator answerChooser,
+                             int expectedQuestions) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.answerChooser = answerChooser;
+        this.questionLatencies = new long[expectedQuestions];
+    }
+
+    @Override
+    public void printLine(String s) {
+        if (lastAnswerTime == 0) {
+            lastAnswerTime = System.nanoTime();
+        }
+        printedChars += s.length() + 1;
+        lastPrintedLine = s;
+    }
+
+    @Override
+    public void printFormattedLine(String s, Object... args) {
+        printLine(s.formatted(args));
+    }
+
+    @Override
+    public String readString() {
+        return stringsRead++ == 0 ? firstName : lastName;
+    }
+
+    @Override
+    public String readStringWithPrompt(String prompt) {
+        printLine(prompt);
+        return readString();
+    }
+
+    @Override
+    public int readIntForRange(int min, int max, String errorMessage) {
+        var now = System.nanoTime();
+        if (answeredCount < questionLatencies.length) {
+            questionLatencies[answeredCount] = now - lastAnswerTime;
+        }
+        answeredCount++;
+        lastAnswerTime = now;
+        return answerChooser.applyAsInt(min, max);
+    }
+
+    @Override
+    public int readIntForRangeWithPrompt(int min, int max, String prompt, String errorMessage) {
+        printLine(prompt);
+        return readIntForRange(min, max, errorMessage);
+    }
+
+    public long[] getQuestionLatencies() {
+        return questionLatencies;
+    }
+
+    public int getAnsweredCount() {
+        return answeredCount;
+    }
+
+    public long getPrintedChars() {
+        return printedChars;
+    }
+
+    public String getLastPrintedLine() {
+        return lastPrintedLine;
+    }
+}
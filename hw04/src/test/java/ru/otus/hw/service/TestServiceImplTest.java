@@ -4,8 +4,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.config.QuestionSelectionConfig;
+import ru.otus.hw.config.TestConfig;
 import ru.otus.hw.dao.CsvQuestionDao;
 import ru.otus.hw.domain.Answer;
 import ru.otus.hw.domain.Question;
@@ -15,6 +19,8 @@ import ru.otus.hw.domain.TestResult;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
@@ -28,6 +34,12 @@ public class TestServiceImplTest {
     @MockBean
     private CsvQuestionDao mockCsvQuestionDao;
 
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private QuestionSelectionService questionSelectionService;
+
     @DisplayName("Should print all questions and answers")
     @Test
     public void testPrintAllQuestionsAndAnswers() {
@@ -42,10 +54,46 @@ public class TestServiceImplTest {
         testQuestionList.add(new Question("TestQuestion1", testListAnwser));
 
         Mockito.when(mockCsvQuestionDao.findAll()).thenReturn(testQuestionList);
+        Mockito.when(mockCsvQuestionDao.streamAll()).thenAnswer(invocation -> testQuestionList.stream());
         Mockito.when(mockIOService.readIntForRangeWithPromptLocalized(anyInt(), anyInt(), anyString(), anyString())).thenReturn(1);
 
-        TestServiceImpl testService = new TestServiceImpl(mockIOService, mockCsvQuestionDao);
+        TestServiceImpl testService = new TestServiceImpl(mockIOService, mockCsvQuestionDao,
+                questionSelectionService, appProperties, appProperties);
         TestResult testResult = testService.executeTestFor(testStudent);
         Mockito.verify(mockIOService, times(5)).printLine(anyString()); // 2 blank lines + 1 question + 2 answer
     }
+
+    @DisplayName("Should stop test when result can no longer change")
+    @Test
+    public void testStopWhenDecided() {
+
+        List<Question> testQuestionList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            testQuestionList.add(new Question("TestQuestion" + i,
+                    List.of(new Answer("TestAnswer1", true), new Answer("TestAnswer2", false))));
+        }
+        TestConfig testConfig = () -> 3;
+        QuestionSelectionConfig selectionConfig = Mockito.mock(QuestionSelectionConfig.class);
+        Mockito.when(selectionConfig.isStopWhenDecided()).thenReturn(true);
+        TestServiceImpl testService = new TestServiceImpl(mockIOService, mockCsvQuestionDao,
+                questionSelectionService, testConfig, selectionConfig);
+
+        // Все ответы верные: тест сдан после третьего вопроса
+        Mockito.when(mockIOService.readIntForRangeWithPromptLocalized(anyInt(), anyInt(), anyString(), anyString()))
+                .thenReturn(1);
+        TestResult passedResult = testService.executeTestFor(new Student("First", "Last"), mockIOService,
+                testQuestionList.stream());
+
+        // Все ответы неверные: после восьмой ошибки трех верных ответов уже не набрать
+        Mockito.when(mockIOService.readIntForRangeWithPromptLocalized(anyInt(), anyInt(), anyString(), anyString()))
+                .thenReturn(2);
+        TestResult failedResult = testService.executeTestFor(new Student("First", "Last"), mockIOService,
+                testQuestionList.stream());
+
+        assertAll("Should stop test when result can no longer change",
+                () -> assertEquals(3, passedResult.getAnsweredCount()),
+                () -> assertEquals(3, passedResult.getRightAnswersCount()),
+                () -> assertEquals(8, failedResult.getAnsweredCount()),
+                () -> assertEquals(0, failedResult.getRightAnswersCount()));
+    }
 }
@@ -0,0 +1,103 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.MessageSource;
+import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class TestSessionServiceImplTest {
+
+    private static final int SESSIONS_COUNT = 100;
+
+    private static final int QUESTIONS_COUNT = 5;
+
+    @MockBean
+    private AppProperties mockAppProperties;
+
+    @Autowired
+    private TestSessionService testSessionService;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @DisplayName("Should keep separate results for concurrent sessions")
+    @Test
+    void testSeparateResultsForConcurrentSessions() {
+
+        Mockito.when(mockAppProperties.getTestFileName()).thenReturn("questions_test.csv");
+        Mockito.when(mockAppProperties.getLocale()).thenReturn(Locale.forLanguageTag("en-US"));
+
+        List<CompletableFuture<TestResult>> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS_COUNT; i++) {
+            var chooseFirst = i % 2 == 0;
+            var ioService = new ScriptedIOService("First" + i, "Last" + i,
+                    (min, max) -> chooseFirst ? min : max, QUESTIONS_COUNT);
+            sessions.add(testSessionService.startSession(new Student("First" + i, "Last" + i), ioService));
+        }
+
+        for (int i = 0; i < SESSIONS_COUNT; i++) {
+            var testResult = sessions.get(i).join();
+            var expectedRightAnswers = i % 2 == 0 ? 3 : 0;
+            var expectedStudent = new Student("First" + i, "Last" + i);
+            assertAll("Should keep separate results for concurrent sessions",
+                    () -> assertEquals(expectedStudent, testResult.getStudent()),
+                    () -> assertEquals(QUESTIONS_COUNT, testResult.getAnsweredCount()),
+                    () -> assertEquals(expectedRightAnswers, testResult.getRightAnswersCount()));
+        }
+    }
+
+    @DisplayName("Should use questions and messages of the session locale")
+    @Test
+    void testSessionLocale() {
+
+        var ru = Locale.forLanguageTag("ru-RU");
+        var en = Locale.forLanguageTag("en-US");
+        Mockito.when(mockAppProperties.getTestFileName(ru)).thenReturn("questions_test_ru.csv");
+        Mockito.when(mockAppProperties.getTestFileName(en)).thenReturn("questions_test.csv");
+
+        List<ScriptedIOService> ioServices = new ArrayList<>();
+        List<List<String>> printedLines = new ArrayList<>();
+        List<CompletableFuture<TestResult>> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS_COUNT; i++) {
+            List<String> lines = new ArrayList<>();
+            var ioService = new ScriptedIOService("First" + i, "Last" + i, (min, max) -> min, QUESTIONS_COUNT) {
+                @Override
+                public void printLine(String s) {
+                    super.printLine(s);
+                    lines.add(s);
+                }
+            };
+            ioServices.add(ioService);
+            printedLines.add(lines);
+            sessions.add(testSessionService.startSession(new Student("First" + i, "Last" + i), ioService,
+                    i % 2 == 0 ? ru : en));
+        }
+
+        for (int i = 0; i < SESSIONS_COUNT; i++) {
+            var testResult = sessions.get(i).join();
+            var locale = i % 2 == 0 ? ru : en;
+            var lines = printedLines.get(i);
+            var lastPrintedLine = ioServices.get(i).getLastPrintedLine();
+            assertAll("Should use questions and messages of the session locale",
+                    () -> assertEquals(QUESTIONS_COUNT, testResult.getAnsweredCount()),
+                    () -> assertEquals(locale == ru, lines.contains("Есть ли жизнь на Марсе?")),
+                    () -> assertEquals(messageSource.getMessage("ResultService.passed.test", null, locale),
+                            lastPrintedLine));
+        }
+    }
+}
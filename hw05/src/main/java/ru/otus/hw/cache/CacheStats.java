@@ -0,0 +1,9 @@
+package ru.otus.hw.cache;
+
+public record CacheStats(String name, int size, int capacity, long hits, long misses, long evictions) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
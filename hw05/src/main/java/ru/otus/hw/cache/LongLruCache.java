@@ -0,0 +1,142 @@
+package ru.otus.hw.cache;
+
+import java.util.function.LongFunction;
+
+/**
+ * Кеш объектов по ключу long ограниченного размера с вытеснением давно не используемых (LRU).
+ */
+public class LongLruCache<V> {
+
+    private final String name;
+
+    private final int capacity;
+
+    private final LongObjectMap<Node<V>> nodes;
+
+    // Голова списка - последний использованный узел, хвост - кандидат на вытеснение
+    private Node<V> head;
+
+    private Node<V> tail;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    public LongLruCache(String name, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.nodes = new LongObjectMap<>(capacity);
+    }
+
+    public synchronized V get(long key) {
+        var node = nodes.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        moveToHead(node);
+        return node.value;
+    }
+
+    // Загрузка без блокировки: два потока могут загрузить одно значение, в кеше останется последнее
+    public V get(long key, LongFunction<V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public synchronized void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cache value must not be null");
+        }
+        var node = nodes.get(key);
+        if (node != null) {
+            node.value = value;
+            moveToHead(node);
+            return;
+        }
+        if (nodes.size() == capacity) {
+            node = tail;
+            nodes.remove(node.key);
+            unlink(node);
+            evictions++;
+        } else {
+            node = new Node<>();
+        }
+        node.key = key;
+        node.value = value;
+        linkHead(node);
+        nodes.put(key, node);
+    }
+
+    public synchronized void invalidate(long key) {
+        var node = nodes.remove(key);
+        if (node != null) {
+            unlink(node);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        nodes.clear();
+        head = null;
+        tail = null;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, nodes.size(), capacity, hits, misses, evictions);
+    }
+
+    private void moveToHead(Node<V> node) {
+        if (node != head) {
+            unlink(node);
+            linkHead(node);
+        }
+    }
+
+    private void linkHead(Node<V> node) {
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        head = node;
+        if (tail == null) {
+            tail = node;
+        }
+    }
+
+    private void unlink(Node<V> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+    }
+
+    private static final class Node<V> {
+
+        private long key;
+
+        private V value;
+
+        private Node<V> prev;
+
+        private Node<V> next;
+    }
+}
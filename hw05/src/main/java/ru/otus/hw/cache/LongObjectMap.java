@@ -0,0 +1,125 @@
+package ru.otus.hw.cache;
+
+import java.util.Arrays;
+
+/**
+ * Хеш-таблица с ключами long без упаковки в Long: открытая адресация с линейным пробированием.
+ * Значения null не хранятся: null из get означает отсутствие ключа. Класс не потокобезопасен.
+ */
+public class LongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    public LongObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Map value must not be null");
+        }
+        int mask = keys.length - 1;
+        int index = indexFor(key, mask);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        // Заполнение не больше половины, чтобы цепочки пробирования оставались короткими
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        var value = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return value;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        for (int index = indexFor(key, mask); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    // Удаление со сдвигом назад: следующие записи цепочки переезжают в дыру, если их домашняя ячейка не между ними
+    private void shiftBack(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int current = (slot + 1) & mask; values[current] != null; current = (current + 1) & mask) {
+            int home = indexFor(keys[current], mask);
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                keys[hole] = keys[current];
+                values[hole] = values[current];
+                hole = current;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexFor(oldKeys[i], mask);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    // Перемешивание битов: идентификаторы из последовательности идут подряд и иначе легли бы кучно
+    private static int indexFor(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -3,10 +3,24 @@ package ru.otus.hw.commands;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.generator.CatalogSampler;
+import ru.otus.hw.generator.GeneratorProperties;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.GenreService;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
@@ -18,11 +32,28 @@ public class BookCommands {
 
     private final BookConverter bookConverter;
 
-    @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
+    private final AuthorService authorService;
+
+    private final GenreService genreService;
+
+    private final GeneratorProperties generatorProperties;
+
+    // ab --limit 20 --after-title BookTitle_2 --after-id 2
+    @ShellMethod(value = "Find all books page by page", key = "ab")
+    public String findAllBooks(@ShellOption(value = "--limit", defaultValue = "20") int limit,
+                               @ShellOption(value = "--after-title", defaultValue = ShellOption.NULL)
+                               String afterTitle,
+                               @ShellOption(value = "--after-id", defaultValue = "0") long afterId) {
+        var books = bookService.findPage(afterTitle, afterId, limit);
+        var page = books.stream()
                 .map(bookConverter::bookToString)
                 .collect(Collectors.joining("," + System.lineSeparator()));
+        if (books.size() < limit) {
+            return page;
+        }
+        var lastBook = books.get(books.size() - 1);
+        return page + System.lineSeparator() + "Next page: ab --limit %d --after-title \"%s\" --after-id %d"
+                .formatted(limit, lastBook.getTitle(), lastBook.getId());
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -46,6 +77,40 @@ public class BookCommands {
         return bookConverter.bookToString(savedBook);
     }
 
+    // bimp books.csv
+    @ShellMethod(value = "Import books from csv file (title;authorId;genreId,genreId)", key = "bimp")
+    public String importBooks(String fileName) throws IOException {
+        long start = System.nanoTime();
+        long importedCount;
+        try (var lines = Files.lines(Path.of(fileName), StandardCharsets.UTF_8)) {
+            importedCount = bookService.insertAll(lines
+                    .filter(line -> !line.isBlank())
+                    .map(bookConverter::csvToBook));
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return "Imported %d books in %d ms (%d books/s)".formatted(importedCount, elapsedMillis,
+                importedCount * 1000 / elapsedMillis);
+    }
+
+    // bgen books.csv 100000
+    @ShellMethod(value = "Generate csv file with books for import", key = "bgen")
+    public String generateBooks(String fileName, int count) throws IOException {
+        var authors = authorService.findAll();
+        var genres = genreService.findAll();
+        var sampler = new CatalogSampler(generatorProperties.getSeed(), authors.size(), genres.size());
+        try (var writer = Files.newBufferedWriter(Path.of(fileName), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                List<Genre> bookGenres = Arrays.stream(sampler.nextGenres(generatorProperties.getMaxGenresPerBook()))
+                        .mapToObj(genres::get)
+                        .toList();
+                var book = new Book(0, CatalogSampler.title(i), authors.get(sampler.nextAuthor()), bookGenres);
+                writer.write(bookConverter.bookToCsv(book));
+                writer.newLine();
+            }
+        }
+        return "Generated %d books into %s".formatted(count, fileName);
+    }
+
     // bdel 4
     @ShellMethod(value = "Delete book by id", key = "bdel")
     public void deleteBook(long id) {
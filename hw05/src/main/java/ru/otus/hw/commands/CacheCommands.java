@@ -0,0 +1,33 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.cache.LongLruCache;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class CacheCommands {
+
+    private final List<LongLruCache<?>> caches;
+
+    @ShellMethod(value = "Show author and genre cache statistics", key = "cstat")
+    public String showCacheStats() {
+        return caches.stream()
+                .map(LongLruCache::stats)
+                .map(stats -> "%s: size %d/%d, hits %d, misses %d, hit rate %.1f%%, evictions %d".formatted(
+                        stats.name(), stats.size(), stats.capacity(), stats.hits(), stats.misses(),
+                        stats.hitRate() * 100, stats.evictions()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    // Для случаев, когда авторы или жанры изменены в базе в обход приложения
+    @ShellMethod(value = "Clear author and genre caches", key = "cclr")
+    public String clearCaches() {
+        caches.forEach(LongLruCache::invalidateAll);
+        return "Caches cleared";
+    }
+}
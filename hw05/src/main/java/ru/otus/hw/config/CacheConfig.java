@@ -0,0 +1,22 @@
+package ru.otus.hw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.otus.hw.cache.LongLruCache;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public LongLruCache<Genre> genreCache(@Value("${app.cache.genres-size:1024}") int capacity) {
+        return new LongLruCache<>("genres", capacity);
+    }
+
+    @Bean
+    public LongLruCache<Author> authorCache(@Value("${app.cache.authors-size:4096}") int capacity) {
+        return new LongLruCache<>("authors", capacity);
+    }
+}
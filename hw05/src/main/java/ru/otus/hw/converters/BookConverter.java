@@ -2,8 +2,14 @@ package ru.otus.hw.converters;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -24,4 +30,33 @@ public class BookConverter {
                 authorConverter.authorToString(book.getAuthor()),
                 genresString);
     }
+
+    // Строка файла импорта: title;authorId;genreId,genreId
+    public String bookToCsv(Book book) {
+        return book.getTitle() + ';' + book.getAuthor().getId() + ';' + book.getGenres().stream()
+                .map(genre -> Long.toString(genre.getId()))
+                .collect(Collectors.joining(","));
+    }
+
+    public Book csvToBook(String line) {
+        int genresSeparator = line.lastIndexOf(';');
+        int authorSeparator = genresSeparator > 0 ? line.lastIndexOf(';', genresSeparator - 1) : -1;
+        if (authorSeparator < 0) {
+            throw new IllegalArgumentException("Expected title;authorId;genreId,genreId but was: " + line);
+        }
+        var author = new Author(Long.parseLong(line.substring(authorSeparator + 1, genresSeparator).trim()), null);
+        Set<Long> genreIds = new HashSet<>();
+        List<Genre> genres = new ArrayList<>();
+        for (String token : line.substring(genresSeparator + 1).split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            long genreId = Long.parseLong(token.trim());
+            // Повтор жанра в строке нарушил бы первичный ключ books_genres
+            if (genreIds.add(genreId)) {
+                genres.add(new Genre(genreId, null));
+            }
+        }
+        return new Book(0, line.substring(0, authorSeparator), author, genres);
+    }
 }
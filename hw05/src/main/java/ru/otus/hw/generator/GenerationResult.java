@@ -0,0 +1,14 @@
+package ru.otus.hw.generator;
+
+public record GenerationResult(long authors, long genres, long books, long bookGenres, long elapsedMillis) {
+
+    public long rows() {
+        return authors + genres + books + bookGenres;
+    }
+
+    @Override
+    public String toString() {
+        return "Generated %d authors, %d genres, %d books, %d book genres: %d rows in %d ms".formatted(
+                authors, genres, books, bookGenres, rows(), elapsedMillis);
+    }
+}
@@ -4,13 +4,20 @@ import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    // Страница после книги (afterTitle, afterId) в порядке (title, id); afterTitle == null - первая страница
+    List<Book> findPage(String afterTitle, long afterId, int limit);
+
     Book save(Book book);
 
+    // Пакетная вставка новых книг, идентификаторы присваиваются книгам; возвращает число вставленных книг
+    long insertAll(Stream<Book> books);
+
     void deleteById(long id);
 }
@@ -1,41 +1,53 @@
 package ru.otus.hw.repositories;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import ru.otus.hw.cache.LongLruCache;
 import ru.otus.hw.models.Author;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Collections;
 
 @Repository
 public class JdbcAuthorRepository implements AuthorRepository {
 
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private static final PreparedSql FIND_ALL = new PreparedSql("select id, full_name from authors");
 
-    public JdbcAuthorRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
-        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    private static final PreparedSql FIND_BY_ID =
+            new PreparedSql("select id, full_name from authors where id = :id", "id");
+
+    private static final RowMapper<Author> AUTHOR_ROW_MAPPER = new AuthorRowMapper();
+
+    private final JdbcOperations jdbcOperations;
+
+    private final LongLruCache<Author> authorCache;
+
+    public JdbcAuthorRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                LongLruCache<Author> authorCache) {
+        this.jdbcOperations = namedParameterJdbcTemplate.getJdbcOperations();
+        this.authorCache = authorCache;
     }
 
     @Override
     public List<Author> findAll() {
-        return namedParameterJdbcTemplate.query("select id, full_name from authors", new AuthorRowMapper());
+        var authors = FIND_ALL.query(jdbcOperations, AUTHOR_ROW_MAPPER);
+        authors.forEach(author -> authorCache.put(author.getId(), copy(author)));
+        return authors;
     }
 
     @Override
     public Optional<Author> findById(long id) {
-        Map<String, Object> params = Collections.singletonMap("id", id);
-        String sql = "select id, full_name from authors where id = :id";
-        try {
-            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, params, new AuthorRowMapper()));
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(authorCache.get(id,
+                key -> FIND_BY_ID.queryForFirst(jdbcOperations, AUTHOR_ROW_MAPPER, key)))
+                .map(JdbcAuthorRepository::copy);
+    }
+
+    private static Author copy(Author author) {
+        return new Author(author.getId(), author.getFullName());
     }
 
     private static class AuthorRowMapper implements RowMapper<Author> {
@@ -1,58 +1,137 @@
 package ru.otus.hw.repositories;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.cache.LongObjectMap;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 @Repository
-@RequiredArgsConstructor
 public class JdbcBookRepository implements BookRepository {
 
-    private final GenreRepository genreRepository;
+    // Строк в одном многострочном insert и таких insert в одном JDBC batch
+    private static final int ROWS_PER_INSERT = 100;
 
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private static final int INSERTS_PER_BATCH = 20;
+
+    private static final int BOOKS_PER_TRANSACTION = 10_000;
+
+    private static final String BOOKS_INSERT = "insert into books (id, title, author_id) values ";
+
+    private static final String BOOKS_ROW = "(?, ?, ?)";
+
+    private static final String BOOKS_GENRES_INSERT = "insert into books_genres (book_id, genre_id) values ";
+
+    private static final String BOOKS_GENRES_ROW = "(?, ?)";
+
+    private static final String BOOK_COLUMNS =
+            "select b.id, b.title, b.author_id, a.full_name, g.id genre_id, g.name genre_name ";
+
+    private static final String GENRES_JOIN =
+            "  left join authors a on a.id = b.author_id " +
+            "  left join books_genres bg on bg.book_id = b.id " +
+            "  left join genres g on g.id = bg.genre_id ";
+
+    private static final PreparedSql FIND_BY_ID = new PreparedSql(
+            BOOK_COLUMNS +
+            "  from books b " +
+            "  join authors a on a.id = b.author_id " +
+            "  join books_genres bg on bg.book_id = b.id " +
+            "  join genres g on g.id = bg.genre_id " +
+            " where b.id = :id " +
+            " order by g.name", "id");
+
+    private static final PreparedSql FIND_ALL = new PreparedSql(
+            BOOK_COLUMNS +
+            "  from books b " + GENRES_JOIN +
+            " order by b.title, a.full_name, b.id, g.id");
+
+    // Без отдельного title >= :title H2 не использует idx_books_title_id и читает таблицу целиком
+    private static final PreparedSql FIND_FIRST_PAGE = new PreparedSql(
+            BOOK_COLUMNS +
+            "  from (select b.id, b.title, b.author_id from books b " +
+            "         order by b.title, b.id limit :limit) b " + GENRES_JOIN +
+            " order by b.title, b.id, g.id", "limit");
+
+    private static final PreparedSql FIND_PAGE_AFTER = new PreparedSql(
+            BOOK_COLUMNS +
+            "  from (select b.id, b.title, b.author_id from books b " +
+            "         where b.title >= :title and (b.title > :title or b.id > :id) " +
+            "         order by b.title, b.id limit :limit) b " + GENRES_JOIN +
+            " order by b.title, b.id, g.id", "title", "id", "limit");
+
+    private static final PreparedSql INSERT = new PreparedSql(
+            "insert into books (title, author_id) values (:title, :author_id)", "title", "author_id");
+
+    private static final PreparedSql UPDATE = new PreparedSql(
+            "update books set title = :title, author_id = :author_id where id = :id", "title", "author_id", "id");
+
+    private static final PreparedSql DELETE_BY_ID = new PreparedSql("delete from books where id = :id", "id");
+
+    private static final PreparedSql FIND_GENRES_IDS = new PreparedSql(
+            "select genre_id from books_genres where book_id = :book_id order by genre_id", "book_id");
+
+    private static final String DELETE_GENRE_RELATION = "delete from books_genres where book_id = ? and genre_id = ?";
+
+    // Один запрос на все идентификаторы части вместо вставки с возвратом ключа для каждой книги
+    private static final PreparedSql ALLOCATE_IDS =
+            new PreparedSql("select nextval('books_seq') from generate_series(1, :count)", "count");
+
+    private static final ResultSetExtractor<Book> BOOK_RESULT_SET_EXTRACTOR = new BookResultSetExtractor();
+
+    private static final RowMapper<Long> ID_ROW_MAPPER = (rs, rowNum) -> rs.getLong(1);
+
+    private static final ResultSetExtractor<long[]> IDS_EXTRACTOR = JdbcBookRepository::readIds;
+
+    private final JdbcOperations jdbcOperations;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcBookRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                              TransactionTemplate transactionTemplate) {
+        this.jdbcOperations = namedParameterJdbcTemplate.getJdbcOperations();
+        this.transactionTemplate = transactionTemplate;
+    }
 
     @Override
     public Optional<Book> findById(long id) {
-        Map<String, Object> params = Collections.singletonMap("id", id);
-        String sql = "select b.id, b.title, b.author_id, a.full_name, g.id genre_id, g.name genre_name " +
-                     "  from books b " +
-                     "  join authors a on a.id = b.author_id " +
-                     "  join books_genres bg on bg.book_id = b.id " +
-                     "  join genres g on g.id = bg.genre_id " +
-                     " where b.id = :id " +
-                     " order by g.name";
-
-        return Optional.ofNullable(namedParameterJdbcTemplate.query(sql, params, new BookResultSetExtractor()));
+        return Optional.ofNullable(FIND_BY_ID.query(jdbcOperations, BOOK_RESULT_SET_EXTRACTOR, id));
     }
 
     @Override
     public List<Book> findAll() {
-        var genres = genreRepository.findAll();
-        var relations = getAllGenreRelations();
-        var books = getAllBooksWithoutGenres();
-        mergeBooksInfo(books, genres, relations);
-        return books;
+        var handler = new BookRowCallbackHandler();
+        FIND_ALL.query(jdbcOperations, handler);
+        return handler.getBooks();
+    }
+
+    @Override
+    public List<Book> findPage(String afterTitle, long afterId, int limit) {
+        var handler = new BookRowCallbackHandler();
+        if (afterTitle == null) {
+            FIND_FIRST_PAGE.query(jdbcOperations, handler, limit);
+        } else {
+            FIND_PAGE_AFTER.query(jdbcOperations, handler, afterTitle, afterId, limit);
+        }
+        return handler.getBooks();
     }
 
     @Override
@@ -63,46 +142,87 @@ public class JdbcBookRepository implements BookRepository {
         return update(book);
     }
 
+    @Override
+    public long insertAll(Stream<Book> books) {
+        long insertedCount = 0;
+        List<Book> chunk = new ArrayList<>(BOOKS_PER_TRANSACTION);
+        for (var iterator = books.iterator(); iterator.hasNext(); ) {
+            chunk.add(iterator.next());
+            if (chunk.size() == BOOKS_PER_TRANSACTION || !iterator.hasNext()) {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+                insertedCount += chunk.size();
+                chunk.clear();
+            }
+        }
+        return insertedCount;
+    }
+
     @Override
     public void deleteById(long id) {
-        Map<String, Object> params = Collections.singletonMap("id", id);
-        String sql = "delete from books where id = :id";
-        namedParameterJdbcTemplate.update(sql, params);
+        DELETE_BY_ID.update(jdbcOperations, id);
     }
 
-    private List<Book> getAllBooksWithoutGenres() {
-        String sql = "select b.id, b.title, b.author_id, a.full_name" +
-                     "  from books b left join authors a on b.author_id = a.id" +
-                     " order by b.title, a.full_name";
-        return namedParameterJdbcTemplate.query(sql, new BookRowMapper());
+    private void insertChunk(List<Book> books) {
+        allocateIds(books);
+        List<BookGenreRelation> relations = new ArrayList<>();
+        for (Book book : books) {
+            for (Genre genre : book.getGenres()) {
+                relations.add(new BookGenreRelation(book.getId(), genre.getId()));
+            }
+        }
+        batchInsertRows(BOOKS_INSERT, BOOKS_ROW, books, (ps, index, book) -> {
+            ps.setLong(index, book.getId());
+            ps.setString(index + 1, book.getTitle());
+            ps.setLong(index + 2, book.getAuthor().getId());
+            return index + 3;
+        });
+        batchInsertGenresRelations(relations);
     }
 
-    private List<BookGenreRelation> getAllGenreRelations() {
-        String sql = "select book_id, genre_id from books_genres";
-        return namedParameterJdbcTemplate.query(sql, new BookGenreRowMapper());
+    private void allocateIds(List<Book> books) {
+        var ids = ALLOCATE_IDS.query(jdbcOperations, ID_ROW_MAPPER, books.size());
+        for (int i = 0; i < books.size(); i++) {
+            books.get(i).setId(ids.get(i));
+        }
     }
 
-    private void mergeBooksInfo(List<Book> booksWithoutGenres, List<Genre> genres,
-                                List<BookGenreRelation> relations) {
-        Map<Long, Book> bookMap =
-                booksWithoutGenres.stream().collect(Collectors.toMap(Book::getId, Function.identity()));
-        Map<Long, Genre> genreMap =
-                genres.stream().collect(Collectors.toMap(Genre::getId, Function.identity()));
+    private <T> void batchInsertRows(String insert, String row, List<T> rows, RowBinder<T> binder) {
+        int fullInsertsCount = rows.size() / ROWS_PER_INSERT;
+        if (fullInsertsCount > 0) {
+            List<List<T>> groups = new ArrayList<>(fullInsertsCount);
+            for (int i = 0; i < fullInsertsCount; i++) {
+                groups.add(rows.subList(i * ROWS_PER_INSERT, (i + 1) * ROWS_PER_INSERT));
+            }
+            jdbcOperations.batchUpdate(multiRowInsert(insert, row, ROWS_PER_INSERT), groups, INSERTS_PER_BATCH,
+                    (ps, group) -> bindRows(ps, group, binder));
+        }
+        var tail = rows.subList(fullInsertsCount * ROWS_PER_INSERT, rows.size());
+        if (!tail.isEmpty()) {
+            jdbcOperations.update(multiRowInsert(insert, row, tail.size()), ps -> bindRows(ps, tail, binder));
+        }
+    }
 
-        relations.forEach(relation -> {
-            if (bookMap.containsKey(relation.bookId) && genreMap.containsKey(relation.genreId)) {
-                bookMap.get(relation.bookId).getGenres().add(genreMap.get(relation.genreId));
+    private static String multiRowInsert(String insert, String row, int rowsCount) {
+        var sql = new StringBuilder(insert.length() + (row.length() + 2) * rowsCount).append(insert);
+        for (int i = 0; i < rowsCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
             }
-        });
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    private static <T> void bindRows(PreparedStatement ps, List<T> rows, RowBinder<T> binder) throws SQLException {
+        int index = 1;
+        for (T row : rows) {
+            index = binder.bind(ps, index, row);
+        }
     }
 
     private Book insert(Book book) {
         var keyHolder = new GeneratedKeyHolder();
-        String sql = "insert into books (title, author_id) values (:title, :author_id)";
-        MapSqlParameterSource params = new MapSqlParameterSource(
-                Map.of("title", book.getTitle(), "author_id", book.getAuthor().getId()));
-
-        namedParameterJdbcTemplate.update(sql, params, keyHolder);
+        INSERT.update(jdbcOperations, keyHolder, "id", book.getTitle(), book.getAuthor().getId());
 
         //noinspection DataFlowIssue
         book.setId(keyHolder.getKeyAs(Long.class));
@@ -110,64 +230,125 @@ public class JdbcBookRepository implements BookRepository {
         return book;
     }
 
+    // Блокировка строки книги выстраивает параллельные изменения одной книги в очередь
     private Book update(Book book) {
-        String sql = "update books set title = :title, author_id = :author_id where id = :id";
-        MapSqlParameterSource params = new MapSqlParameterSource(
-                Map.of("title", book.getTitle(),
-                        "author_id", book.getAuthor().getId(),
-                        "id", book.getId()));
+        transactionTemplate.executeWithoutResult(status -> {
+            int rowUpdated = UPDATE.update(jdbcOperations, book.getTitle(), book.getAuthor().getId(), book.getId());
+            if (rowUpdated == 0) {
+                throw new EntityNotFoundException("Book with id %d not found".formatted(book.getId()));
+            }
+            updateGenresRelationsFor(book);
+        });
+        return book;
+    }
 
-        int rowUpdated = namedParameterJdbcTemplate.update(sql, params);
-        if (rowUpdated == 0) {
-            throw new EntityNotFoundException("Book with id %d not found".formatted(book.getId()));
+    private void updateGenresRelationsFor(Book book) {
+        long[] currentIds = FIND_GENRES_IDS.query(jdbcOperations, IDS_EXTRACTOR, book.getId());
+        long[] targetIds = book.getGenres().stream().mapToLong(Genre::getId).sorted().distinct().toArray();
+        List<BookGenreRelation> removed = new ArrayList<>();
+        List<BookGenreRelation> added = new ArrayList<>();
+        int current = 0;
+        int target = 0;
+        while (current < currentIds.length || target < targetIds.length) {
+            if (target == targetIds.length || current < currentIds.length && currentIds[current] < targetIds[target]) {
+                removed.add(new BookGenreRelation(book.getId(), currentIds[current++]));
+            } else if (current == currentIds.length || targetIds[target] < currentIds[current]) {
+                added.add(new BookGenreRelation(book.getId(), targetIds[target++]));
+            } else {
+                current++;
+                target++;
+            }
         }
-
-        removeGenresRelationsFor(book);
-        batchInsertGenresRelationsFor(book);
-
-        return book;
+        if (!removed.isEmpty()) {
+            jdbcOperations.batchUpdate(DELETE_GENRE_RELATION, removed, INSERTS_PER_BATCH, (ps, relation) -> {
+                ps.setLong(1, relation.bookId());
+                ps.setLong(2, relation.genreId());
+            });
+        }
+        batchInsertGenresRelations(added);
     }
 
     private void batchInsertGenresRelationsFor(Book book) {
-        String sql = "insert into books_genres (book_id, genre_id) values (:book_id, :genre_id)";
-        SqlParameterSource[] params = book.getGenres().stream().map(
-                genre -> {
-                    var param = new MapSqlParameterSource();
-                    param.addValue("book_id", book.getId());
-                    param.addValue("genre_id", genre.getId());
-                    return param;
-                }).toArray(SqlParameterSource[]::new);
-        namedParameterJdbcTemplate.batchUpdate(sql, params);
+        List<BookGenreRelation> relations = new ArrayList<>(book.getGenres().size());
+        for (Genre genre : book.getGenres()) {
+            relations.add(new BookGenreRelation(book.getId(), genre.getId()));
+        }
+        batchInsertGenresRelations(relations);
     }
 
-    private void removeGenresRelationsFor(Book book) {
-        Map<String, Object> params = Collections.singletonMap("book_id", book.getId());
-        String sql = "delete from books_genres where book_id = :book_id";
-        namedParameterJdbcTemplate.update(sql, params);
+    private void batchInsertGenresRelations(List<BookGenreRelation> relations) {
+        batchInsertRows(BOOKS_GENRES_INSERT, BOOKS_GENRES_ROW, relations, (ps, index, relation) -> {
+            ps.setLong(index, relation.bookId());
+            ps.setLong(index + 1, relation.genreId());
+            return index + 2;
+        });
     }
 
-    private static class BookGenreRowMapper implements RowMapper<BookGenreRelation> {
-
-        @Override
-        public BookGenreRelation mapRow(ResultSet rs, int rowNum) throws SQLException {
-            return new BookGenreRelation(rs.getLong("book_id"), rs.getLong("genre_id"));
+    private static long[] readIds(ResultSet rs) throws SQLException {
+        long[] ids = new long[8];
+        int size = 0;
+        while (rs.next()) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = rs.getLong(1);
         }
+        return Arrays.copyOf(ids, size);
     }
 
-    private static class BookRowMapper implements RowMapper<Book> {
+    private static class BookRowCallbackHandler implements RowCallbackHandler {
+
+        private final List<Book> books = new ArrayList<>();
+
+        private final LongObjectMap<Author> authors = new LongObjectMap<>();
+
+        private final LongObjectMap<Genre> genres = new LongObjectMap<>();
+
+        private Book currentBook;
 
         @Override
-        public Book mapRow(ResultSet rs, int rowNum) throws SQLException {
+        public void processRow(ResultSet rs) throws SQLException {
             long id = rs.getLong("id");
-            String title = rs.getString("title");
-            Author author = new Author(rs.getLong("author_id"), rs.getString("full_name"));
-            List<Genre> genres = new ArrayList<>();
-            return new Book(id, title, author, genres);
+            if (currentBook == null || currentBook.getId() != id) {
+                currentBook = new Book(id, rs.getString("title"), getAuthor(rs), new ArrayList<>());
+                books.add(currentBook);
+            }
+            long genreId = rs.getLong("genre_id");
+            if (!rs.wasNull()) {
+                currentBook.getGenres().add(getGenre(rs, genreId));
+            }
+        }
+
+        List<Book> getBooks() {
+            return books;
+        }
+
+        private Author getAuthor(ResultSet rs) throws SQLException {
+            long authorId = rs.getLong("author_id");
+            var author = authors.get(authorId);
+            if (author == null) {
+                author = new Author(authorId, rs.getString("full_name"));
+                authors.put(authorId, author);
+            }
+            return author;
+        }
+
+        private Genre getGenre(ResultSet rs, long genreId) throws SQLException {
+            var genre = genres.get(genreId);
+            if (genre == null) {
+                genre = new Genre(genreId, rs.getString("genre_name"));
+                genres.put(genreId, genre);
+            }
+            return genre;
         }
     }
 
-    @SuppressWarnings("ClassCanBeRecord")
-    @RequiredArgsConstructor
+    @FunctionalInterface
+    private interface RowBinder<T> {
+
+        int bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
     private static class BookResultSetExtractor implements ResultSetExtractor<Book> {
 
         @Override
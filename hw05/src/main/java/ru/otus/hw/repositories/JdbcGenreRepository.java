@@ -1,50 +1,88 @@
 package ru.otus.hw.repositories;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import ru.otus.hw.cache.LongLruCache;
 import ru.otus.hw.models.Genre;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Collections;
-import java.util.Map;
 
 @Repository
 public class JdbcGenreRepository implements GenreRepository {
 
+    private static final PreparedSql FIND_ALL = new PreparedSql("select id, name from genres");
+
+    private static final PreparedSql FIND_BY_ID = new PreparedSql("select id, name from genres where id = :id", "id");
+
+    // Число "?" зависит от размера списка, поэтому этот запрос раскрывает NamedParameterJdbcTemplate
+    private static final String FIND_ALL_BY_IDS = "select id, name from genres where id in (:ids)";
+
+    private static final RowMapper<Genre> GENRE_ROW_MAPPER = new GnreRowMapper();
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public JdbcGenreRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    private final JdbcOperations jdbcOperations;
+
+    private final LongLruCache<Genre> genreCache;
+
+    public JdbcGenreRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                               LongLruCache<Genre> genreCache) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.jdbcOperations = namedParameterJdbcTemplate.getJdbcOperations();
+        this.genreCache = genreCache;
     }
 
     @Override
     public List<Genre> findAll() {
-        return namedParameterJdbcTemplate.query("select id, name from genres", new GnreRowMapper());
+        var genres = FIND_ALL.query(jdbcOperations, GENRE_ROW_MAPPER);
+        genres.forEach(genre -> genreCache.put(genre.getId(), copy(genre)));
+        return genres;
     }
 
     @Override
     public List<Genre> findAllByIds(Set<Long> ids) {
-        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
-        String sql = "select id, name from genres where id in (:ids)";
-        return namedParameterJdbcTemplate.query(sql, params, new GnreRowMapper());
+        List<Genre> genres = new ArrayList<>(ids.size());
+        Set<Long> missingIds = new HashSet<>();
+        for (long id : ids) {
+            var genre = genreCache.get(id);
+            if (genre == null) {
+                missingIds.add(id);
+            } else {
+                genres.add(copy(genre));
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", missingIds);
+            for (Genre genre : namedParameterJdbcTemplate.query(FIND_ALL_BY_IDS, params, GENRE_ROW_MAPPER)) {
+                genreCache.put(genre.getId(), copy(genre));
+                genres.add(genre);
+            }
+        }
+        // Порядок как у запроса по всем id, независимо от того, какие жанры нашлись в кеше
+        genres.sort(Comparator.comparingLong(Genre::getId));
+        return genres;
     }
 
     @Override
     public Optional<Genre> findById(long id) {
-        Map<String, Object> params = Collections.singletonMap("id", id);
-        String sql = "select id, name from genres where id = :id";
-        try {
-            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, params, new GnreRowMapper()));
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(genreCache.get(id,
+                key -> FIND_BY_ID.queryForFirst(jdbcOperations, GENRE_ROW_MAPPER, key)))
+                .map(JdbcGenreRepository::copy);
+    }
+
+    // Жанр изменяемый, поэтому кеш не отдает наружу свои экземпляры
+    private static Genre copy(Genre genre) {
+        return new Genre(genre.getId(), genre.getName());
     }
 
     private static class GnreRowMapper implements RowMapper<Genre> {
@@ -0,0 +1,110 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Запрос с именованными параметрами, разобранный один раз при загрузке репозитория. Неизменяемый.
+ */
+final class PreparedSql {
+
+    private final String sql;
+
+    // Для каждого "?" в sql - номер значения в аргументах вызова
+    private final int[] valueIndexes;
+
+    PreparedSql(String namedSql, String... parameterNames) {
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+        var names = new ParameterNamesSource(parameterNames);
+        this.sql = NamedParameterUtils.substituteNamedParameters(parsedSql, names);
+        var placeholders = NamedParameterUtils.buildValueArray(parsedSql, names, null);
+        this.valueIndexes = new int[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            valueIndexes[i] = (Integer) placeholders[i];
+        }
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    // Первая строка результата или null
+    <T> T queryForFirst(JdbcOperations jdbcOperations, RowMapper<T> rowMapper, Object... values) {
+        return jdbcOperations.query(sql, setter(values), rs -> rs.next() ? rowMapper.mapRow(rs, 0) : null);
+    }
+
+    <T> List<T> query(JdbcOperations jdbcOperations, RowMapper<T> rowMapper, Object... values) {
+        return jdbcOperations.query(sql, setter(values), rowMapper);
+    }
+
+    <T> T query(JdbcOperations jdbcOperations, ResultSetExtractor<T> extractor, Object... values) {
+        return jdbcOperations.query(sql, setter(values), extractor);
+    }
+
+    void query(JdbcOperations jdbcOperations, RowCallbackHandler handler, Object... values) {
+        jdbcOperations.query(sql, setter(values), handler);
+    }
+
+    int update(JdbcOperations jdbcOperations, Object... values) {
+        return jdbcOperations.update(sql, setter(values));
+    }
+
+    int update(JdbcOperations jdbcOperations, KeyHolder keyHolder, String keyColumn, Object... values) {
+        return jdbcOperations.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[]{keyColumn});
+            bind(ps, values);
+            return ps;
+        }, keyHolder);
+    }
+
+    private PreparedStatementSetter setter(Object[] values) {
+        return ps -> bind(ps, values);
+    }
+
+    private void bind(PreparedStatement ps, Object[] values) throws SQLException {
+        for (int i = 0; i < valueIndexes.length; i++) {
+            ps.setObject(i + 1, values[valueIndexes[i]]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+
+    // Вместо значений отдает номера параметров: так один раз узнаем, какое значение идет в какой "?"
+    private static final class ParameterNamesSource extends AbstractSqlParameterSource {
+
+        private final List<String> parameterNames;
+
+        ParameterNamesSource(String[] parameterNames) {
+            this.parameterNames = Arrays.asList(parameterNames);
+        }
+
+        @Override
+        public boolean hasValue(String paramName) {
+            return parameterNames.contains(paramName);
+        }
+
+        @Override
+        public Object getValue(String paramName) {
+            int index = parameterNames.indexOf(paramName);
+            if (index < 0) {
+                throw new IllegalArgumentException("No value supplied for the SQL parameter '" + paramName + "'");
+            }
+            return index;
+        }
+    }
+}
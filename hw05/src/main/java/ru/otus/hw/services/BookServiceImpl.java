@@ -3,7 +3,9 @@ package ru.otus.hw.services;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.GenreRepository;
@@ -11,12 +13,16 @@ import ru.otus.hw.repositories.GenreRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final int MAX_PAGE_LIMIT = 1000;
+
     private final AuthorRepository authorRepository;
 
     private final GenreRepository genreRepository;
@@ -33,6 +39,14 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
 
+    @Override
+    public List<Book> findPage(String afterTitle, long afterId, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and %d".formatted(MAX_PAGE_LIMIT));
+        }
+        return bookRepository.findPage(afterTitle, afterId, limit);
+    }
+
     @Override
     public Book insert(String title, long authorId, Set<Long> genresIds) {
         return save(0, title, authorId, genresIds);
@@ -48,6 +62,28 @@ public class BookServiceImpl implements BookService {
         bookRepository.deleteById(id);
     }
 
+    @Override
+    public long insertAll(Stream<Book> books) {
+        var authorIds = authorRepository.findAll().stream().map(Author::getId).collect(Collectors.toSet());
+        var genreIds = genreRepository.findAll().stream().map(Genre::getId).collect(Collectors.toSet());
+        return bookRepository.insertAll(books.peek(book -> {
+            if (isEmpty(book.getGenres())) {
+                throw new IllegalArgumentException("Genres of book %s must not be empty".formatted(book.getTitle()));
+            }
+            if (book.getGenres().stream().map(Genre::getId).distinct().count() != book.getGenres().size()) {
+                throw new IllegalArgumentException("Genres of book %s must not repeat".formatted(book.getTitle()));
+            }
+            if (!authorIds.contains(book.getAuthor().getId())) {
+                throw new EntityNotFoundException("Author with id %d not found".formatted(book.getAuthor().getId()));
+            }
+            for (Genre genre : book.getGenres()) {
+                if (!genreIds.contains(genre.getId())) {
+                    throw new EntityNotFoundException("Genre with id %d not found".formatted(genre.getId()));
+                }
+            }
+        }));
+    }
+
     private Book save(long id, String title, long authorId, Set<Long> genresIds) {
         if (isEmpty(genresIds)) {
             throw new IllegalArgumentException("Genres ids must not be null");
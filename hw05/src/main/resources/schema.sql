@@ -10,8 +10,11 @@ create table genres (
     primary key (id)
 );
 
+-- Отдельная последовательность, чтобы пакетный импорт мог заранее выделить идентификаторы
+create sequence books_seq;
+
 create table books (
-    id bigserial,
+    id bigint default nextval('books_seq'),
     title varchar(255),
     author_id bigint references authors (id) on delete cascade,
     primary key (id)
@@ -21,4 +24,6 @@ create table books_genres (
     book_id bigint references books(id) on delete cascade,
     genre_id bigint references genres(id) on delete cascade,
     primary key (book_id, genre_id)
-);
\ No newline at end of file
+);
+
+create index idx_books_title_id on books (title, id, author_id);
@@ -0,0 +1,105 @@
+package ru.otus.hw.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.JdbcBookRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class CatalogIndexBenchmark {
+
+    private static final String MIDDLE_TITLE = "BookTitle_500000";
+
+    private static final List<String> PLAN_QUERIES = List.of(
+            "select b.id, b.title, b.author_id from books b order by b.title, b.id limit 20",
+            "select b.id, b.title, b.author_id from books b " +
+            " where b.title >= '" + MIDDLE_TITLE + "' and (b.title > '" + MIDDLE_TITLE + "' or b.id > 0) " +
+            " order by b.title, b.id limit 20",
+            "select b.id from books b where b.author_id = 2 limit 20",
+            "select bg.book_id from books_genres bg where bg.genre_id = 3 limit 20");
+
+    @Param({"1000000"})
+    private int booksCount;
+
+    @Param({"true", "false"})
+    private boolean titleIndex;
+
+    private HikariDataSource dataSource;
+
+    private JdbcBookRepository bookRepository;
+
+    private long middleBookId;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        // Без OPTIMIZE_REUSE_RESULTS=FALSE H2 отдает повторный запрос к неизменным таблицам из прошлого результата
+        dataSource.setJdbcUrl("jdbc:h2:mem:catalog;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64;" +
+                              "OPTIMIZE_REUSE_RESULTS=FALSE");
+        dataSource.setMaximumPoolSize(1);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .execute(dataSource);
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("insert into books (title, author_id) " +
+                            "select 'BookTitle_' || x, mod(x, 3) + 1 from system_range(1, ?)", booksCount);
+        jdbcTemplate.update("insert into books_genres (book_id, genre_id) " +
+                            "select id, mod(id, 6) + 1 from books where id > 3 " +
+                            "union all select id, mod(id + 1, 6) + 1 from books where id > 3");
+        if (!titleIndex) {
+            jdbcTemplate.execute("drop index idx_books_title_id");
+        }
+        jdbcTemplate.execute("analyze");
+        middleBookId = jdbcTemplate.queryForObject("select id from books where title = ?", Long.class, MIDDLE_TITLE);
+
+        System.out.println();
+        for (String query : PLAN_QUERIES) {
+            System.out.println(jdbcTemplate.queryForObject("explain analyze " + query, String.class));
+        }
+
+        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        bookRepository = new JdbcBookRepository(namedParameterJdbcTemplate, transactionTemplate);
+    }
+
+    @TearDown
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("drop all objects");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<Book> firstPage() {
+        return bookRepository.findPage(null, 0, 20);
+    }
+
+    @Benchmark
+    public List<Book> middlePage() {
+        return bookRepository.findPage(MIDDLE_TITLE, middleBookId, 20);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.otus.hw.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.cache.LongLruCache;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcRepositoryBenchmark {
+
+    private static final Set<Long> GENRE_IDS = Set.of(1L, 3L, 5L);
+
+    private HikariDataSource dataSource;
+
+    private JdbcAuthorRepository authorRepository;
+
+    private JdbcGenreRepository genreRepository;
+
+    private JdbcBookRepository bookRepository;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64");
+        dataSource.setMaximumPoolSize(1);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .execute(dataSource);
+
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        authorRepository = new JdbcAuthorRepository(jdbcTemplate, new LongLruCache<>("authors", 1024));
+        genreRepository = new JdbcGenreRepository(jdbcTemplate, new LongLruCache<>("genres", 1024));
+        bookRepository = new JdbcBookRepository(jdbcTemplate, transactionTemplate);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Optional<Author> authorFindById() {
+        return authorRepository.findById(2);
+    }
+
+    @Benchmark
+    public Optional<Genre> genreFindById() {
+        return genreRepository.findById(2);
+    }
+
+    @Benchmark
+    public List<Genre> genreFindAllByIds() {
+        return genreRepository.findAllByIds(GENRE_IDS);
+    }
+
+    @Benchmark
+    public Optional<Book> bookFindById() {
+        return bookRepository.findById(2);
+    }
+
+    @Benchmark
+    public List<Book> bookFindPage() {
+        return bookRepository.findPage("BookTitle_1", 1, 2);
+    }
+}
@@ -0,0 +1,105 @@
+package ru.otus.hw.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LRU-кеш с ключами long ")
+class LongLruCacheTest {
+
+    @DisplayName("должен вытеснять давно не используемые значения и считать попадания и промахи")
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new LongLruCache<String>("test", 2);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        assertThat(cache.get(1)).isEqualTo("one");
+
+        cache.put(3, "three");
+
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.get(1)).isEqualTo("one");
+        assertThat(cache.get(3)).isEqualTo("three");
+        assertThat(cache.stats()).isEqualTo(new CacheStats("test", 2, 2, 3, 1, 1));
+    }
+
+    @DisplayName("должен загружать промах один раз и не запоминать ненайденное")
+    @Test
+    void shouldLoadMissOnce() {
+        var cache = new LongLruCache<String>("test", 4);
+        int[] loads = new int[1];
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(7, key -> {
+                loads[0]++;
+                return "seven";
+            })).isEqualTo("seven");
+        }
+        assertThat(cache.get(8, key -> null)).isNull();
+
+        assertThat(loads[0]).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(2);
+        assertThat(cache.stats().misses()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @DisplayName("должен сбрасывать значения по ключу и целиком")
+    @Test
+    void shouldInvalidate() {
+        var cache = new LongLruCache<String>("test", 4);
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        cache.invalidate(1);
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isEqualTo("two");
+
+        cache.invalidateAll();
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @DisplayName("должен совпадать с эталонной реализацией на случайных операциях")
+    @Test
+    void shouldMatchReferenceImplementation() {
+        int capacity = 64;
+        var cache = new LongLruCache<Long>("test", capacity);
+        var reference = new ReferenceLruMap(capacity);
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(200) - 50;
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                assertThat(cache.get(key)).isEqualTo(reference.get(key));
+            } else if (operation < 9) {
+                cache.put(key, key * 10);
+                reference.put(key, key * 10);
+            } else {
+                cache.invalidate(key);
+                reference.remove(key);
+            }
+            assertThat(cache.stats().size()).isEqualTo(reference.size());
+        }
+    }
+
+    private static class ReferenceLruMap extends LinkedHashMap<Long, Long> {
+
+        private final int capacity;
+
+        ReferenceLruMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > capacity;
+        }
+    }
+}
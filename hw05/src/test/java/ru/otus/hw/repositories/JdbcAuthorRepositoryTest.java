@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.config.CacheConfig;
 import ru.otus.hw.models.Author;
 
 import java.util.List;
@@ -17,7 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с авторами ")
 @JdbcTest
-@Import({JdbcAuthorRepository.class})
+@Import({JdbcAuthorRepository.class, CacheConfig.class})
 public class JdbcAuthorRepositoryTest {
 
     @Autowired
@@ -50,6 +51,15 @@ public class JdbcAuthorRepositoryTest {
         actualAuthors.forEach(System.out::println);
     }
 
+    @DisplayName("не должен отдавать изменения полученного автора следующим чтениям из кеша")
+    @Test
+    void shouldNotShareCachedAuthorInstances() {
+        repositoryJdbc.findAll().get(0).setFullName("Changed");
+        repositoryJdbc.findById(2).orElseThrow().setFullName("Changed");
+
+        assertThat(repositoryJdbc.findById(1)).contains(dbAuthors.get(0));
+        assertThat(repositoryJdbc.findById(2)).contains(dbAuthors.get(1));
+    }
 
     private static List<Author> getDbAuthors() {
         return IntStream.range(1, 4).boxed()
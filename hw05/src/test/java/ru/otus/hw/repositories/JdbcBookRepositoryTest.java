@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.config.CacheConfig;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
@@ -19,9 +20,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с книгами ")
 @JdbcTest
-@Import({JdbcBookRepository.class, JdbcGenreRepository.class})
+@Import({JdbcBookRepository.class, JdbcGenreRepository.class, CacheConfig.class})
 class JdbcBookRepositoryTest {
 
+    // Больше одного многострочного insert и с остатком
+    private static final int IMPORTED_BOOKS_COUNT = 250;
+
     @Autowired
     private JdbcBookRepository repositoryJdbc;
 
@@ -58,6 +62,32 @@ class JdbcBookRepositoryTest {
         actualBooks.forEach(System.out::println);
     }
 
+    @DisplayName("должен загружать в списке всех книг книгу без жанров и общие экземпляры авторов")
+    @Test
+    void shouldReturnBookWithoutGenresInBooksList() {
+        var bookWithoutGenres = repositoryJdbc.save(new Book(0, "BookTitle_4", dbAuthors.get(0), List.of()));
+        var actualBooks = repositoryJdbc.findAll();
+
+        assertThat(actualBooks).hasSize(dbBooks.size() + 1)
+                .contains(new Book(bookWithoutGenres.getId(), "BookTitle_4", dbAuthors.get(0), List.of()));
+        assertThat(actualBooks.get(0).getAuthor()).isSameAs(actualBooks.get(3).getAuthor());
+    }
+
+    @DisplayName("должен загружать книги постранично по (title, id)")
+    @Test
+    void shouldReturnBooksPageByTitleAndId() {
+        var sameTitleBook = repositoryJdbc.save(new Book(0, "BookTitle_2", dbAuthors.get(0),
+                List.of(dbGenres.get(0))));
+
+        var firstPage = repositoryJdbc.findPage(null, 0, 2);
+        var lastBook = firstPage.get(firstPage.size() - 1);
+        var secondPage = repositoryJdbc.findPage(lastBook.getTitle(), lastBook.getId(), 2);
+
+        assertThat(firstPage).containsExactly(dbBooks.get(0), dbBooks.get(1));
+        assertThat(secondPage).containsExactly(sameTitleBook, dbBooks.get(2));
+        assertThat(repositoryJdbc.findPage(dbBooks.get(2).getTitle(), dbBooks.get(2).getId(), 2)).isEmpty();
+    }
+
     @DisplayName("должен сохранять новую книгу")
     @Test
     void shouldSaveNewBook() {
@@ -74,6 +104,26 @@ class JdbcBookRepositoryTest {
                 .isEqualTo(returnedBook);
     }
 
+    @DisplayName("должен пакетно вставлять новые книги с жанрами")
+    @Test
+    void shouldInsertAllBooks() {
+        var newBooks = IntStream.range(0, IMPORTED_BOOKS_COUNT)
+                .mapToObj(i -> new Book(0, "ImportedBook_" + i, dbAuthors.get(i % dbAuthors.size()),
+                        List.of(dbGenres.get(i % dbGenres.size()), dbGenres.get((i + 1) % dbGenres.size()))))
+                .toList();
+
+        var insertedCount = repositoryJdbc.insertAll(newBooks.stream());
+
+        assertThat(insertedCount).isEqualTo(IMPORTED_BOOKS_COUNT);
+        assertThat(newBooks).extracting(Book::getId).doesNotHaveDuplicates().doesNotContain(0L);
+        assertThat(repositoryJdbc.findAll()).hasSize(dbBooks.size() + IMPORTED_BOOKS_COUNT);
+        var lastBook = newBooks.get(IMPORTED_BOOKS_COUNT - 1);
+        assertThat(repositoryJdbc.findById(lastBook.getId()))
+                .isPresent()
+                .get()
+                .usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(lastBook);
+    }
+
     @DisplayName("должен сохранять измененную книгу")
     @Test
     void shouldSaveUpdatedBook() {
@@ -96,6 +146,20 @@ class JdbcBookRepositoryTest {
                 .isEqualTo(returnedBook);
     }
 
+    @DisplayName("должен сохранять измененную книгу с частично совпадающими жанрами")
+    @Test
+    void shouldSaveUpdatedBookWithOverlappingGenres() {
+        var expectedBook = new Book(1L, "BookTitle_1", dbAuthors.get(0),
+                List.of(dbGenres.get(1), dbGenres.get(2), dbGenres.get(1)));
+        repositoryJdbc.save(expectedBook);
+
+        assertThat(repositoryJdbc.findById(1L))
+                .isPresent()
+                .get()
+                .extracting(Book::getGenres)
+                .isEqualTo(List.of(dbGenres.get(1), dbGenres.get(2)));
+    }
+
     @DisplayName("должен удалять книгу по id ")
     @Test
     void shouldDeleteBook() {
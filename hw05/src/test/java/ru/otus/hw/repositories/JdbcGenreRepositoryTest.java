@@ -8,22 +8,28 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import ru.otus.hw.cache.LongLruCache;
+import ru.otus.hw.config.CacheConfig;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Genre;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с жанрами ")
 @JdbcTest
-@Import({JdbcGenreRepository.class})
+@Import({JdbcGenreRepository.class, CacheConfig.class})
 public class JdbcGenreRepositoryTest {
 
     @Autowired
     private JdbcGenreRepository repositoryJdbc;
 
+    @Autowired
+    private LongLruCache<Genre> genreCache;
+
     private List<Genre> dbGenres;
 
     @BeforeEach
@@ -51,6 +57,34 @@ public class JdbcGenreRepositoryTest {
         actualGenres.forEach(System.out::println);
     }
 
+    @DisplayName("должен догружать из базы только жанры, которых нет в кеше")
+    @Test
+    void shouldLoadOnlyMissingGenresByIds() {
+        genreCache.invalidateAll();
+        repositoryJdbc.findById(1);
+        var hitsBefore = genreCache.stats().hits();
+
+        var actualGenres = repositoryJdbc.findAllByIds(Set.of(1L, 2L, 3L));
+        var cachedGenres = repositoryJdbc.findAllByIds(Set.of(1L, 2L, 3L));
+
+        assertThat(actualGenres).containsExactlyInAnyOrderElementsOf(dbGenres.subList(0, 3));
+        assertThat(cachedGenres).containsExactlyInAnyOrderElementsOf(dbGenres.subList(0, 3));
+        assertThat(genreCache.stats().hits() - hitsBefore).isEqualTo(4);
+        assertThat(genreCache.stats().size()).isEqualTo(3);
+    }
+
+    @DisplayName("не должен отдавать изменения полученного жанра следующим чтениям из кеша")
+    @Test
+    void shouldNotShareCachedGenreInstances() {
+        repositoryJdbc.findAll().get(0).setName("Changed");
+        repositoryJdbc.findById(2).orElseThrow().setName("Changed");
+        repositoryJdbc.findAllByIds(Set.of(3L)).get(0).setName("Changed");
+
+        assertThat(repositoryJdbc.findById(1)).contains(dbGenres.get(0));
+        assertThat(repositoryJdbc.findById(2)).contains(dbGenres.get(1));
+        assertThat(repositoryJdbc.findAllByIds(Set.of(3L))).containsExactly(dbGenres.get(2));
+    }
+
     private static List<Genre> getDbGenres() {
         return IntStream.range(1, 7).boxed()
                 .map(id -> new Genre(id, "Genre_" + id))
@@ -2,7 +2,10 @@ package ru.otus.hw;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import ru.otus.hw.generator.GeneratorProperties;
 
+@EnableConfigurationProperties(GeneratorProperties.class)
 @SpringBootApplication
 public class Application {
 
@@ -0,0 +1,38 @@
+package ru.otus.hw.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class SecondLevelCache {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    // Счетчики копятся, только если включен hibernate.generate_statistics
+    public List<CacheStats> stats() {
+        var statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    var regionStatistics = statistics.getCacheRegionStatistics(region);
+                    return regionStatistics == null ? null : new CacheStats(region, regionStatistics.getHitCount(),
+                            regionStatistics.getMissCount(), regionStatistics.getPutCount());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // JPA evictAll не трогает кеш запросов
+    public void clear() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+}
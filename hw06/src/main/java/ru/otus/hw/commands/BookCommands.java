@@ -3,6 +3,7 @@ package ru.otus.hw.commands;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
 import ru.otus.hw.services.BookService;
 
@@ -18,11 +19,22 @@ public class BookCommands {
 
     private final BookConverter bookConverter;
 
-    @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
+    // ab --limit 20 --after-title BookTitle_2 --after-id 2
+    @ShellMethod(value = "Find all books page by page", key = "ab")
+    public String findAllBooks(@ShellOption(value = "--limit", defaultValue = "20") int limit,
+                               @ShellOption(value = "--after-title", defaultValue = ShellOption.NULL)
+                               String afterTitle,
+                               @ShellOption(value = "--after-id", defaultValue = "0") long afterId) {
+        var books = bookService.findPage(afterTitle, afterId, limit);
+        var page = books.stream()
                 .map(bookConverter::bookToString)
                 .collect(Collectors.joining("," + System.lineSeparator()));
+        if (books.size() < limit) {
+            return page;
+        }
+        var lastBook = books.get(books.size() - 1);
+        return page + System.lineSeparator() + "Next page: ab --limit %d --after-title \"%s\" --after-id %d"
+                .formatted(limit, lastBook.getTitle(), lastBook.getId());
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -0,0 +1,34 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.generator.CatalogGenerator;
+import ru.otus.hw.generator.GeneratorProperties;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class GeneratorCommands {
+
+    private final CatalogGenerator catalogGenerator;
+
+    private final GeneratorProperties properties;
+
+    // gdata 1000000 --authors 50000 --genres 300
+    @ShellMethod(value = "Generate synthetic authors, genres, books and comments", key = "gdata")
+    public String generateData(@ShellOption(defaultValue = "-1") int books,
+                               @ShellOption(defaultValue = "-1") int authors,
+                               @ShellOption(defaultValue = "-1") int genres) {
+        var request = new GeneratorProperties();
+        request.setBooks(books < 0 ? properties.getBooks() : books);
+        request.setAuthors(authors < 0 ? properties.getAuthors() : authors);
+        request.setGenres(genres < 0 ? properties.getGenres() : genres);
+        request.setMaxGenresPerBook(properties.getMaxGenresPerBook());
+        request.setAverageCommentsPerBook(properties.getAverageCommentsPerBook());
+        request.setMaxCommentsPerBook(properties.getMaxCommentsPerBook());
+        request.setBatchSize(properties.getBatchSize());
+        request.setSeed(properties.getSeed());
+        return catalogGenerator.generate(request).toString();
+    }
+}
@@ -4,7 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.dto.BookDto;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
 
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -31,7 +34,10 @@ public class BookConverter {
         bookDto.setId(book.getId());
         bookDto.setTitle(book.getTitle());
         bookDto.setAuthor(authorConverter.authorToAuthorDto(book.getAuthor()));
-        bookDto.setGenres(book.getGenres().stream().map(genreConverter::genreToGenreDto).collect(Collectors.toList()));
+        bookDto.setGenres(book.getGenres().stream()
+                .sorted(Comparator.comparingLong(Genre::getId))
+                .map(genreConverter::genreToGenreDto)
+                .collect(Collectors.toList()));
         return bookDto;
     }
 
@@ -40,7 +46,8 @@ public class BookConverter {
         book.setId(bookDto.getId());
         book.setTitle(bookDto.getTitle());
         book.setAuthor(authorConverter.authorDtoToAuthor(bookDto.getAuthor()));
-        book.setGenres(bookDto.getGenres().stream().map(genreConverter::genreDtoToGenre).collect(Collectors.toList()));
+        book.setGenres(bookDto.getGenres().stream().map(genreConverter::genreDtoToGenre)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
         return book;
     }
 }
@@ -0,0 +1,120 @@
+package ru.otus.hw.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Случайные величины каталога: популярность по закону Ципфа, при одинаковом seed значения повторяются.
+ */
+class CatalogSampler {
+
+    private static final double ZIPF_EXPONENT = 1.07;
+
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Boris", "Clara", "Dmitry", "Elena", "Fedor", "Galina", "Ivan", "Julia", "Kirill",
+        "Lev", "Maria", "Nikolai", "Olga", "Pavel", "Raisa", "Sergei", "Tatiana", "Viktor", "Yana"};
+
+    private static final String[] LAST_NAMES = {
+        "Abramov", "Belov", "Chekhov", "Danilov", "Egorov", "Fomin", "Gromov", "Ilyin", "Kozlov", "Lebedev",
+        "Morozov", "Novikov", "Orlov", "Petrov", "Romanov", "Sokolov", "Tarasov", "Volkov", "Zaitsev", "Zuev"};
+
+    private static final String[] GENRE_NAMES = {
+        "Novel", "Detective", "Fantasy", "Science fiction", "Poetry", "Drama", "History", "Biography",
+        "Adventure", "Thriller", "Romance", "Horror", "Satire", "Essay", "Philosophy", "Travel"};
+
+    private static final String[] TITLE_ADJECTIVES = {
+        "Silent", "Lost", "Golden", "Last", "Dark", "Northern", "Secret", "Broken", "Endless", "Quiet",
+        "Red", "Winter", "Hidden", "Distant", "Burning", "White"};
+
+    private static final String[] TITLE_NOUNS = {
+        "River", "City", "Garden", "Road", "House", "Island", "Winter", "Letter", "Forest", "Station",
+        "Harbor", "Mirror", "Bridge", "Kingdom", "Voyage", "Shadow"};
+
+    private static final String[] COMMENTS = {
+        "Great book", "Could not put it down", "Too long in the middle", "Recommended",
+        "The ending was predictable", "Read it twice", "Not my genre", "Beautiful language"};
+
+    private final SplittableRandom random;
+
+    private final double[] authorsDistribution;
+
+    private final double[] genresDistribution;
+
+    CatalogSampler(long seed, int authorsCount, int genresCount) {
+        this.random = new SplittableRandom(seed);
+        this.authorsDistribution = zipfDistribution(authorsCount);
+        this.genresDistribution = zipfDistribution(genresCount);
+    }
+
+    int nextAuthor() {
+        return nextZipf(authorsDistribution);
+    }
+
+    int[] nextGenres(int maxGenresCount) {
+        int count = Math.min(1 + nextGeometric(0.5, maxGenresCount - 1), genresDistribution.length);
+        int[] genres = new int[count];
+        int filled = 0;
+        while (filled < count) {
+            int genre = nextZipf(genresDistribution);
+            if (!contains(genres, filled, genre)) {
+                genres[filled++] = genre;
+            }
+        }
+        Arrays.sort(genres);
+        return genres;
+    }
+
+    int nextCommentsCount(double averageCount, int maxCount) {
+        return nextGeometric(1 / (1 + averageCount), maxCount);
+    }
+
+    String nextComment() {
+        return COMMENTS[random.nextInt(COMMENTS.length)];
+    }
+
+    static String authorName(long index) {
+        return FIRST_NAMES[(int) (index % FIRST_NAMES.length)] + " " +
+               LAST_NAMES[(int) (index / FIRST_NAMES.length % LAST_NAMES.length)] + " " + index;
+    }
+
+    static String genreName(long index) {
+        return GENRE_NAMES[(int) (index % GENRE_NAMES.length)] + " " + index;
+    }
+
+    static String title(long index) {
+        return TITLE_ADJECTIVES[(int) (index % TITLE_ADJECTIVES.length)] + " " +
+               TITLE_NOUNS[(int) (index / TITLE_ADJECTIVES.length % TITLE_NOUNS.length)] + " " + index;
+    }
+
+    // Нарастающие суммы весов 1 / k^s, выбор - двоичный поиск равномерного значения среди них
+    private static double[] zipfDistribution(int count) {
+        double[] cumulative = new double[count];
+        double sum = 0;
+        for (int k = 0; k < count; k++) {
+            sum += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+            cumulative[k] = sum;
+        }
+        return cumulative;
+    }
+
+    private int nextZipf(double[] cumulative) {
+        double value = random.nextDouble(cumulative[cumulative.length - 1]);
+        int index = Arrays.binarySearch(cumulative, value);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+
+    // Число неудач до первого успеха с вероятностью успеха p, не больше max
+    private int nextGeometric(double p, int max) {
+        double value = Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        return (int) Math.min(value, max);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -11,6 +11,9 @@ public interface BookRepository {
 
     List<Book> findAll();
 
+    // Страница после книги (afterTitle, afterId) в порядке (title, id); afterTitle == null - первая страница
+    List<Book> findPage(String afterTitle, long afterId, int limit);
+
     Book save(Book book);
 
     void deleteById(long id);
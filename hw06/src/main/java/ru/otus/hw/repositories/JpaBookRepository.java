@@ -2,16 +2,22 @@ package ru.otus.hw.repositories;
 
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.springframework.data.jpa.repository.EntityGraph.EntityGraphType.FETCH;
 
@@ -42,6 +48,27 @@ public class JpaBookRepository implements BookRepository {
         return query.getResultList();
     }
 
+    // Без отдельного title >= :title H2 не использует idx_books_title_id и читает таблицу целиком
+    @Override
+    public List<Book> findPage(String afterTitle, long afterId, int limit) {
+
+        EntityGraph<?> entityGraph = em.getEntityGraph("books-authors-entity-graph");
+        TypedQuery<Book> query;
+        if (afterTitle == null) {
+            query = em.createQuery("select b from Book b order by b.title, b.id", Book.class);
+        } else {
+            query = em.createQuery("select b from Book b " +
+                    "where b.title >= :title and (b.title > :title or b.id > :id) " +
+                    "order by b.title, b.id", Book.class);
+            query.setParameter("title", afterTitle);
+            query.setParameter("id", afterId);
+        }
+        query.setHint(FETCH.getKey(), entityGraph);
+        query.setMaxResults(limit);
+
+        return query.getResultList();
+    }
+
     @Override
     public Book save(Book book) {
         if (book.getId() == 0) {
@@ -61,8 +88,30 @@ public class JpaBookRepository implements BookRepository {
         return book;
     }
 
+    // merge заменил бы коллекцию жанров целиком, поэтому изменения переносятся в книгу, загруженную с блокировкой
     private Book update(Book book) {
-        em.merge(book);
-        return book;
+        var managedBook = em.find(Book.class, book.getId(), LockModeType.PESSIMISTIC_WRITE);
+        if (managedBook == null) {
+            throw new EntityNotFoundException("Book with id %d not found".formatted(book.getId()));
+        }
+        managedBook.setTitle(book.getTitle());
+        managedBook.setAuthor(book.getAuthor());
+        updateGenres(managedBook.getGenres(), book.getGenres());
+        return managedBook;
+    }
+
+    private static void updateGenres(Set<Genre> currentGenres, Collection<Genre> targetGenres) {
+        long[] targetIds = sortedIds(targetGenres);
+        currentGenres.removeIf(genre -> Arrays.binarySearch(targetIds, genre.getId()) < 0);
+        long[] currentIds = sortedIds(currentGenres);
+        for (Genre genre : targetGenres) {
+            if (Arrays.binarySearch(currentIds, genre.getId()) < 0) {
+                currentGenres.add(genre);
+            }
+        }
+    }
+
+    private static long[] sortedIds(Collection<Genre> genres) {
+        return genres.stream().mapToLong(Genre::getId).sorted().toArray();
     }
 }
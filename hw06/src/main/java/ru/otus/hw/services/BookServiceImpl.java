@@ -11,6 +11,7 @@ import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.GenreRepository;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,6 +22,8 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final int MAX_PAGE_LIMIT = 1000;
+
     private final AuthorRepository authorRepository;
 
     private final GenreRepository genreRepository;
@@ -41,6 +44,17 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll().stream().map(bookConverter::bookToBookDto).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<BookDto> findPage(String afterTitle, long afterId, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and %d".formatted(MAX_PAGE_LIMIT));
+        }
+        return bookRepository.findPage(afterTitle, afterId, limit).stream()
+                .map(bookConverter::bookToBookDto)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     @Override
     public BookDto insert(String title, long authorId, Set<Long> genresIds) {
@@ -71,7 +85,7 @@ public class BookServiceImpl implements BookService {
             throw new EntityNotFoundException("One or all genres with ids %s not found".formatted(genresIds));
         }
 
-        var book = bookRepository.save(new Book(id, title, author, genres));
+        var book = bookRepository.save(new Book(id, title, author, new LinkedHashSet<>(genres)));
         return bookConverter.bookToBookDto(book);
     }
 }
@@ -0,0 +1,118 @@
+package ru.otus.hw.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.JpaAuthorRepository;
+import ru.otus.hw.repositories.JpaBookRepository;
+import ru.otus.hw.repositories.JpaGenreRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кеш второго уровня Hibernate ")
+@DataJpaTest
+@Import({SecondLevelCache.class, JpaAuthorRepository.class, JpaGenreRepository.class, JpaBookRepository.class})
+// Без общей транзакции каждый вызов репозитория идет в своей сессии, как в приложении
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private JpaAuthorRepository authorRepository;
+
+    @Autowired
+    private JpaGenreRepository genreRepository;
+
+    @Autowired
+    private JpaBookRepository bookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        secondLevelCache.clear();
+    }
+
+    @DisplayName("должен отдавать повторно запрошенного автора из кеша")
+    @Test
+    void shouldReturnCachedAuthor() {
+        var author = authorRepository.findById(1).orElseThrow();
+        long hitsBefore = stats(Author.class.getName()).hits();
+
+        var cachedAuthor = authorRepository.findById(1).orElseThrow();
+
+        assertThat(cachedAuthor).isEqualTo(author);
+        assertThat(stats(Author.class.getName()).hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @DisplayName("должен отдавать повторный список жанров из кеша запросов")
+    @Test
+    void shouldReturnCachedGenreList() {
+        var genres = genreRepository.findAll();
+        long hitsBefore = stats(QUERY_REGION).hits();
+
+        assertThat(genreRepository.findAll()).isEqualTo(genres);
+        assertThat(stats(QUERY_REGION).hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @DisplayName("должен отдавать жанры книги из кеша коллекции")
+    @Test
+    void shouldReturnCachedBookGenres() {
+        String region = Book.class.getName() + ".genres";
+        genresCounts();
+        long hitsBefore = stats(region).hits();
+
+        var genresCounts = genresCounts();
+
+        assertThat(genresCounts).isNotEmpty().allSatisfy(count -> assertThat(count).isPositive());
+        assertThat(stats(region).hits()).isEqualTo(hitsBefore + genresCounts.size());
+    }
+
+    @DisplayName("должен очищать области сущностей и запросов после clear")
+    @Test
+    void shouldEvictAllRegionsOnClear() {
+        authorRepository.findAll();
+        genreRepository.findById(1);
+        var authorStats = stats(Author.class.getName());
+        var genreStats = stats(Genre.class.getName());
+        var queryStats = stats(QUERY_REGION);
+
+        secondLevelCache.clear();
+        authorRepository.findAll();
+        genreRepository.findById(1);
+
+        assertThat(stats(Author.class.getName()).hits()).isEqualTo(authorStats.hits());
+        assertThat(stats(Genre.class.getName()).misses()).isEqualTo(genreStats.misses() + 1);
+        assertThat(stats(QUERY_REGION).misses()).isEqualTo(queryStats.misses() + 1);
+    }
+
+    // Жанры загружаются лениво, поэтому книги читаются в транзакции
+    private List<Integer> genresCounts() {
+        return transactionTemplate.execute(status -> bookRepository.findAll().stream()
+                .map(book -> book.getGenres().size())
+                .toList());
+    }
+
+    private CacheStats stats(String region) {
+        return secondLevelCache.stats().stream()
+                .filter(stats -> stats.name().equals(region))
+                .findFirst()
+                .orElseThrow();
+    }
+}
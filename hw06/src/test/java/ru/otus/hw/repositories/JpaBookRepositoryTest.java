@@ -14,6 +14,7 @@ import ru.otus.hw.models.Genre;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,12 +59,25 @@ class JpaBookRepositoryTest {
         assertThat(actualBooks).usingRecursiveComparison().ignoringExpectedNullFields().isEqualTo(expectedBooks);
     }
 
+    @DisplayName("должен загружать книги постранично по (title, id)")
+    @Test
+    void shouldReturnBooksPageByTitleAndId() {
+        var firstPage = repositoryJpa.findPage(null, 0, 2);
+        var lastBook = firstPage.get(firstPage.size() - 1);
+        var secondPage = repositoryJpa.findPage(lastBook.getTitle(), lastBook.getId(), 2);
+
+        assertThat(firstPage).extracting(Book::getId).containsExactly(1L, 2L);
+        assertThat(secondPage).extracting(Book::getId).containsExactly(3L);
+        assertThat(secondPage.get(0).getGenres()).extracting(Genre::getId).containsExactlyInAnyOrder(5L, 6L);
+    }
+
     @DisplayName("должен сохранять новую книгу")
     @Test
     void shouldSaveNewBook() {
         var author = em.find(Author.class, NEW_AUTHOR_ID);
-        var listGenres = NEW_GENRE_IDS.stream().map(i -> em.find(Genre.class,i)).toList();
-        var expectedBook = new Book(0, "New test book 111222", author, listGenres);
+        var setGenres = NEW_GENRE_IDS.stream().map(i -> em.find(Genre.class,i))
+                .collect(Collectors.toSet());
+        var expectedBook = new Book(0, "New test book 111222", author, setGenres);
         var returnedBook = repositoryJpa.save(expectedBook);
         assertThat(returnedBook).isNotNull()
                 .matches(book -> book.getId() > 0)
@@ -79,10 +93,11 @@ class JpaBookRepositoryTest {
         var currenBook = em.find(Book.class, BOOK_ID);
         em.detach(currenBook);
         var newAuthor = em.find(Author.class, NEW_AUTHOR_ID);
-        var newListGenres = NEW_GENRE_IDS.stream().map(i -> em.find(Genre.class,i)).toList();
+        var newSetGenres = NEW_GENRE_IDS.stream().map(i -> em.find(Genre.class,i))
+                .collect(Collectors.toSet());
 
         var expectedBook = new Book(currenBook.getId(),
-                "Modified " + currenBook.getTitle(), newAuthor, newListGenres);
+                "Modified " + currenBook.getTitle(), newAuthor, newSetGenres);
         var returnedBook = repositoryJpa.save(expectedBook);
 
         assertThat(returnedBook).isNotNull()
@@ -94,6 +109,21 @@ class JpaBookRepositoryTest {
                 .usingRecursiveComparison().ignoringExpectedNullFields().isEqualTo(returnedBook);
     }
 
+    @DisplayName("должен менять только отличающиеся жанры измененной книги")
+    @Test
+    void shouldUpdateOnlyChangedGenres() {
+        var currentBook = em.find(Book.class, BOOK_ID);
+        em.detach(currentBook);
+        var newGenres = NEW_GENRE_IDS.stream().map(i -> em.find(Genre.class, i)).collect(Collectors.toSet());
+
+        repositoryJpa.save(new Book(BOOK_ID, currentBook.getTitle(), currentBook.getAuthor(), newGenres));
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Book.class, BOOK_ID).getGenres()).extracting(Genre::getId)
+                .containsExactlyElementsOf(NEW_GENRE_IDS);
+    }
+
     @DisplayName("должен удалять книгу по id ")
     @Test
     void shouldDeleteBook() {
@@ -68,6 +68,14 @@ public class BookServiceTest {
         assertThat(actualBooks).usingRecursiveComparison().ignoringExpectedNullFields().isEqualTo(expectedBooks);
     }
 
+    @DisplayName("должен отклонять недопустимый размер страницы")
+    @Order(1)
+    @Test
+    void shouldRejectInvalidPageLimit() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.findPage(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> bookService.findPage(null, 0, Integer.MAX_VALUE));
+    }
+
     @DisplayName("должен сохранять новую книгу, обрабатывать пустые и неверные параметры")
     @Order(2)
     @Test
@@ -0,0 +1,9 @@
+package ru.otus.hw.cache;
+
+public record CacheStats(String name, long hits, long misses, long puts) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
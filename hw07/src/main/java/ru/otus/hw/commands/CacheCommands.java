@@ -0,0 +1,29 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.cache.SecondLevelCache;
+
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class CacheCommands {
+
+    private final SecondLevelCache secondLevelCache;
+
+    @ShellMethod(value = "Show second-level cache statistics", key = "cstat")
+    public String showCacheStats() {
+        return secondLevelCache.stats().stream()
+                .map(stats -> "%s: hits %d, misses %d, hit rate %.1f%%, puts %d".formatted(
+                        stats.name(), stats.hits(), stats.misses(), stats.hitRate() * 100, stats.puts()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Clear second-level cache", key = "cclr")
+    public String clearCaches() {
+        secondLevelCache.clear();
+        return "Caches cleared";
+    }
+}
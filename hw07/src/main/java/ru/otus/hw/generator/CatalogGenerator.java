@@ -0,0 +1,193 @@
+package ru.otus.hw.generator;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.function.LongFunction;
+
+/**
+ * Добавляет к каталогу синтетические данные пачками, одновременно с генерацией писать в каталог нельзя.
+ */
+@RequiredArgsConstructor
+@Component
+public class CatalogGenerator {
+
+    private static final String INSERT_AUTHOR = "insert into authors (id, full_name) values (?, ?)";
+
+    private static final String INSERT_GENRE = "insert into genres (id, name) values (?, ?)";
+
+    private static final String INSERT_BOOK = "insert into books (id, title, author_id) values (?, ?, ?)";
+
+    private static final String INSERT_BOOK_GENRE = "insert into books_genres (book_id, genre_id) values (?, ?)";
+
+    private static final String INSERT_COMMENT = "insert into book_comments (id, book_id, comment) values (?, ?, ?)";
+
+    private final JdbcOperations jdbcOperations;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public GenerationResult generate(GeneratorProperties properties) {
+        validate(properties);
+        long startNanos = System.nanoTime();
+        var sampler = new CatalogSampler(properties.getSeed(), properties.getAuthors(), properties.getGenres());
+        long firstAuthorId = nextId("authors");
+        long firstGenreId = nextId("genres");
+        long firstBookId = nextId("books");
+        long firstCommentId = nextId("book_comments");
+
+        insertNamed(INSERT_AUTHOR, firstAuthorId, properties.getAuthors(), properties.getBatchSize(),
+                CatalogSampler::authorName);
+        insertNamed(INSERT_GENRE, firstGenreId, properties.getGenres(), properties.getBatchSize(),
+                CatalogSampler::genreName);
+        restartIdentity("authors", firstAuthorId + properties.getAuthors());
+        restartIdentity("genres", firstGenreId + properties.getGenres());
+
+        long bookGenres = 0;
+        long comments = 0;
+        for (int from = 0; from < properties.getBooks(); from += properties.getBatchSize()) {
+            int size = Math.min(properties.getBatchSize(), properties.getBooks() - from);
+            var chunk = new BooksChunk(sampler, properties, firstBookId + from, size, firstAuthorId, firstGenreId);
+            long chunkFirstCommentId = firstCommentId + comments;
+            transactionTemplate.executeWithoutResult(status -> insertBooks(chunk, chunkFirstCommentId));
+            bookGenres += chunk.genreBookIds.length;
+            comments += chunk.commentBookIds.length;
+        }
+        restartIdentity("books", firstBookId + properties.getBooks());
+        restartIdentity("book_comments", firstCommentId + comments);
+        // Иначе закешированные findAll авторов и жанров не увидели бы новых строк
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new GenerationResult(properties.getAuthors(), properties.getGenres(), properties.getBooks(),
+                bookGenres, comments, elapsedMillis);
+    }
+
+    private void insertBooks(BooksChunk chunk, long firstCommentId) {
+        batchInsert(INSERT_BOOK, chunk.authorIds.length, (ps, i) -> {
+            ps.setLong(1, chunk.firstBookId + i);
+            ps.setString(2, CatalogSampler.title(chunk.firstBookId + i));
+            ps.setLong(3, chunk.authorIds[i]);
+        });
+        batchInsert(INSERT_BOOK_GENRE, chunk.genreBookIds.length, (ps, i) -> {
+            ps.setLong(1, chunk.genreBookIds[i]);
+            ps.setLong(2, chunk.genreIds[i]);
+        });
+        batchInsert(INSERT_COMMENT, chunk.commentBookIds.length, (ps, i) -> {
+            ps.setLong(1, firstCommentId + i);
+            ps.setLong(2, chunk.commentBookIds[i]);
+            ps.setString(3, chunk.commentTexts[i]);
+        });
+    }
+
+    private void insertNamed(String sql, long firstId, int count, int batchSize, LongFunction<String> names) {
+        for (int from = 0; from < count; from += batchSize) {
+            long chunkFirstId = firstId + from;
+            int size = Math.min(batchSize, count - from);
+            transactionTemplate.executeWithoutResult(status -> batchInsert(sql, size, (ps, i) -> {
+                ps.setLong(1, chunkFirstId + i);
+                ps.setString(2, names.apply(chunkFirstId + i));
+            }));
+        }
+    }
+
+    private void batchInsert(String sql, int count, RowParameters parameters) {
+        if (count == 0) {
+            return;
+        }
+        jdbcOperations.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                parameters.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcOperations.queryForObject("select max(id) from " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    private void restartIdentity(String table, long nextId) {
+        jdbcOperations.execute("alter table %s alter column id restart with %d".formatted(table, nextId));
+    }
+
+    private static void validate(GeneratorProperties properties) {
+        if (properties.getAuthors() < 0 || properties.getGenres() < 0 || properties.getBooks() < 0) {
+            throw new IllegalArgumentException("Generated rows count must not be negative");
+        }
+        if (properties.getBooks() > 0 && (properties.getAuthors() == 0 || properties.getGenres() == 0)) {
+            throw new IllegalArgumentException("Generated books need at least one author and one genre");
+        }
+        if (properties.getBatchSize() <= 0 || properties.getMaxGenresPerBook() <= 0) {
+            throw new IllegalArgumentException("Batch size and max genres per book must be positive");
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParameters {
+        void set(PreparedStatement ps, int row) throws SQLException;
+    }
+
+    private static class BooksChunk {
+
+        private final long firstBookId;
+
+        private final long[] authorIds;
+
+        private final long[] genreBookIds;
+
+        private final long[] genreIds;
+
+        private final long[] commentBookIds;
+
+        private final String[] commentTexts;
+
+        BooksChunk(CatalogSampler sampler, GeneratorProperties properties, long firstBookId, int size,
+                   long firstAuthorId, long firstGenreId) {
+            this.firstBookId = firstBookId;
+            this.authorIds = new long[size];
+            int[][] genres = new int[size][];
+            int[] commentCounts = new int[size];
+            int genresCount = 0;
+            int commentsCount = 0;
+            for (int i = 0; i < size; i++) {
+                authorIds[i] = firstAuthorId + sampler.nextAuthor();
+                genres[i] = sampler.nextGenres(properties.getMaxGenresPerBook());
+                commentCounts[i] = sampler.nextCommentsCount(properties.getAverageCommentsPerBook(),
+                        properties.getMaxCommentsPerBook());
+                genresCount += genres[i].length;
+                commentsCount += commentCounts[i];
+            }
+            this.genreBookIds = new long[genresCount];
+            this.genreIds = new long[genresCount];
+            this.commentBookIds = new long[commentsCount];
+            this.commentTexts = new String[commentsCount];
+            int genreRow = 0;
+            int commentRow = 0;
+            for (int i = 0; i < size; i++) {
+                for (int genre : genres[i]) {
+                    genreBookIds[genreRow] = firstBookId + i;
+                    genreIds[genreRow++] = firstGenreId + genre;
+                }
+                for (int c = 0; c < commentCounts[i]; c++) {
+                    commentBookIds[commentRow] = firstBookId + i;
+                    commentTexts[commentRow++] = sampler.nextComment();
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
@@ -15,6 +18,20 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @EntityGraph(value = "books-authors-entity-graph")
     List<Book> findAll();
 
+    default List<Book> findPage(String afterTitle, long afterId, int limit) {
+        return afterTitle == null
+                ? findAllByOrderByTitleAscIdAsc(Limit.of(limit))
+                : findPageAfter(afterTitle, afterId, Limit.of(limit));
+    }
+
+    @EntityGraph(value = "books-authors-entity-graph")
+    List<Book> findAllByOrderByTitleAscIdAsc(Limit limit);
+
+    @EntityGraph(value = "books-authors-entity-graph")
+    @Query("select b from Book b where b.title >= :title and (b.title > :title or b.id > :id) " +
+           "order by b.title, b.id")
+    List<Book> findPageAfter(@Param("title") String afterTitle, @Param("id") long afterId, Limit limit);
+
     Book save(Book book);
 
     void deleteById(long id);
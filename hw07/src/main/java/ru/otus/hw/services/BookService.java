@@ -11,6 +11,8 @@ public interface BookService {
 
     List<BookDto> findAll();
 
+    List<BookDto> findPage(String afterTitle, long afterId, int limit);
+
     BookDto insert(String title, long authorId, Set<Long> genresIds);
 
     BookDto update(long id, String title, long authorId, Set<Long> genresIds);
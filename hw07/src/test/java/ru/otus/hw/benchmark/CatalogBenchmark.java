@@ -0,0 +1,112 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.otus.hw.Application;
+import ru.otus.hw.dto.BookCommentDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.generator.CatalogGenerator;
+import ru.otus.hw.generator.GeneratorProperties;
+import ru.otus.hw.services.BookCommentService;
+import ru.otus.hw.services.BookService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CatalogBenchmark {
+
+    private static final List<Set<Long>> GENRE_IDS = List.of(Set.of(1L, 2L), Set.of(2L, 3L));
+
+    @Param({"10000"})
+    private int catalogBooks;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    private BookCommentService bookCommentService;
+
+    private BookDto book;
+
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        var environment = new StandardEnvironment();
+        // OPTIMIZE_REUSE_RESULTS не отключается: без него подзапрос жанров в findAll выполняется на каждую строку
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.shell.interactive.enabled", "false",
+                "spring.shell.noninteractive.enabled", "false",
+                "spring.datasource.url", "jdbc:h2:mem:benchmark",
+                "spring.jpa.show-sql", "false",
+                "logging.level.root", "WARN")));
+        context = new SpringApplicationBuilder(Application.class).environment(environment).run();
+
+        var properties = new GeneratorProperties();
+        properties.setBooks(catalogBooks);
+        properties.setAuthors(Math.max(1, catalogBooks / 10));
+        properties.setGenres(100);
+        context.getBean(CatalogGenerator.class).generate(properties);
+
+        bookService = context.getBean(BookService.class);
+        bookCommentService = context.getBean(BookCommentService.class);
+        long bookId = context.getBean(JdbcTemplate.class).queryForObject(
+                "select id from books order by id limit 1 offset ?", Long.class, catalogBooks / 2);
+        book = bookService.findById(bookId).orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<BookDto> bookFindById() {
+        return bookService.findById(book.getId());
+    }
+
+    @Benchmark
+    public List<BookDto> bookFindAll() {
+        return bookService.findAll();
+    }
+
+    @Benchmark
+    public BookDto bookInsert() {
+        return bookService.insert("Benchmark book " + counter++, book.getAuthor().getId(), GENRE_IDS.get(0));
+    }
+
+    @Benchmark
+    public BookDto bookUpdateGenres() {
+        return bookService.update(book.getId(), book.getTitle(), book.getAuthor().getId(),
+                GENRE_IDS.get((int) (counter++ & 1)));
+    }
+
+    @Benchmark
+    public List<BookCommentDto> commentsFindForBook() {
+        return bookCommentService.findForBook(book.getId());
+    }
+}
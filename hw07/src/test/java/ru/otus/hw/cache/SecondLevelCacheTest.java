@@ -0,0 +1,47 @@
+package ru.otus.hw.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кеш второго уровня Hibernate ")
+@DataJpaTest
+@Import(SecondLevelCache.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @DisplayName("должен отдавать повторно запрошенную книгу из кеша")
+    @Test
+    void shouldReturnCachedBook() {
+        secondLevelCache.clear();
+        var book = bookRepository.findById(1L).orElseThrow();
+        long hitsBefore = bookStats().hits();
+
+        var cachedBook = bookRepository.findById(1L).orElseThrow();
+
+        assertThat(cachedBook.getTitle()).isEqualTo(book.getTitle());
+        assertThat(cachedBook.getAuthor().getId()).isEqualTo(book.getAuthor().getId());
+        assertThat(bookStats().hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    private CacheStats bookStats() {
+        return secondLevelCache.stats().stream()
+                .filter(stats -> stats.name().equals(Book.class.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
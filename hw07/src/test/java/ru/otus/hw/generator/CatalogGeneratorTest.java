@@ -0,0 +1,54 @@
+package ru.otus.hw.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Генератор синтетического каталога ")
+@DataJpaTest
+@Import(CatalogGenerator.class)
+// Генератор фиксирует пачки своими транзакциями, а alter table в H2 фиксирует транзакцию сам
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class CatalogGeneratorTest {
+
+    private static final int AUTHORS = 100;
+
+    private static final int GENRES = 20;
+
+    private static final int BOOKS = 500;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("должен сдвигать счетчики идентификаторов за сгенерированные строки")
+    @Test
+    void shouldRestartIdentityAfterGeneratedRows() {
+        catalogGenerator.generate(properties());
+        long maxBookId = jdbcTemplate.queryForObject("select max(id) from books", Long.class);
+
+        jdbcTemplate.update("insert into books (title, author_id) values ('New book', 1)");
+
+        assertThat(jdbcTemplate.queryForObject("select max(id) from books", Long.class)).isEqualTo(maxBookId + 1);
+    }
+
+    private GeneratorProperties properties() {
+        var properties = new GeneratorProperties();
+        properties.setAuthors(AUTHORS);
+        properties.setGenres(GENRES);
+        properties.setBooks(BOOKS);
+        properties.setBatchSize(300);
+        return properties;
+    }
+}
@@ -3,10 +3,13 @@ package ru.otus.hw;
 import com.github.cloudyrock.spring.v5.EnableMongock;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import ru.otus.hw.generator.GeneratorProperties;
 
 @EnableMongock
 @EnableMongoRepositories(basePackages = {"ru.otus.hw.repositories"})
+@EnableConfigurationProperties(GeneratorProperties.class)
 @SpringBootApplication
 public class Application {
 
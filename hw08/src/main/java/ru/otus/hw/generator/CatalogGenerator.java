@@ -0,0 +1,104 @@
+package ru.otus.hw.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookComment;
+import ru.otus.hw.models.Genre;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+@RequiredArgsConstructor
+@Component
+public class CatalogGenerator {
+
+    private final MongoTemplate mongoTemplate;
+
+    public GenerationResult generate(GeneratorProperties properties) {
+        validate(properties);
+        long startNanos = System.nanoTime();
+        var sampler = new CatalogSampler(properties.getSeed(), properties.getAuthors(), properties.getGenres());
+        long authorsBefore = mongoTemplate.count(new Query(), Author.class);
+        long genresBefore = mongoTemplate.count(new Query(), Genre.class);
+        // Названия книг уникальны (индекс по title), номера продолжают уже имеющиеся книги
+        long booksBefore = mongoTemplate.count(new Query(), Book.class);
+
+        List<Author> authors = insertNamed(properties.getAuthors(), properties.getBatchSize(),
+                index -> new Author(CatalogSampler.authorName(authorsBefore + index)), Author.class);
+        List<Genre> genres = insertNamed(properties.getGenres(), properties.getBatchSize(),
+                index -> new Genre(CatalogSampler.genreName(genresBefore + index)), Genre.class);
+
+        long bookGenres = 0;
+        long comments = 0;
+        for (int from = 0; from < properties.getBooks(); from += properties.getBatchSize()) {
+            int size = Math.min(properties.getBatchSize(), properties.getBooks() - from);
+            List<Book> books = new ArrayList<>(size);
+            // Значения выбираются в том же порядке, что и в реляционных модулях: при одном seed каталоги совпадают
+            int[] commentCounts = new int[size];
+            for (int i = 0; i < size; i++) {
+                var book = nextBook(sampler, properties, booksBefore + from + i + 1, authors, genres);
+                books.add(book);
+                bookGenres += book.getGenres().size();
+                commentCounts[i] = sampler.nextCommentsCount(properties.getAverageCommentsPerBook(),
+                        properties.getMaxCommentsPerBook());
+            }
+            mongoTemplate.insert(books, Book.class);
+
+            List<BookComment> bookComments = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                for (int c = 0; c < commentCounts[i]; c++) {
+                    bookComments.add(new BookComment(books.get(i), sampler.nextComment()));
+                }
+            }
+            if (!bookComments.isEmpty()) {
+                mongoTemplate.insert(bookComments, BookComment.class);
+            }
+            comments += bookComments.size();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new GenerationResult(properties.getAuthors(), properties.getGenres(), properties.getBooks(),
+                bookGenres, comments, elapsedMillis);
+    }
+
+    private static Book nextBook(CatalogSampler sampler, GeneratorProperties properties, long index,
+                                 List<Author> authors, List<Genre> genres) {
+        var author = authors.get(sampler.nextAuthor());
+        int[] genreIndexes = sampler.nextGenres(properties.getMaxGenresPerBook());
+        List<Genre> bookGenres = new ArrayList<>(genreIndexes.length);
+        for (int genreIndex : genreIndexes) {
+            bookGenres.add(genres.get(genreIndex));
+        }
+        return new Book(CatalogSampler.title(index), author, bookGenres);
+    }
+
+    private <T> List<T> insertNamed(int count, int batchSize, LongFunction<T> factory, Class<T> entityClass) {
+        List<T> inserted = new ArrayList<>(count);
+        for (int from = 0; from < count; from += batchSize) {
+            int size = Math.min(batchSize, count - from);
+            List<T> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(factory.apply(from + i + 1));
+            }
+            inserted.addAll(mongoTemplate.insert(batch, entityClass));
+        }
+        return inserted;
+    }
+
+    private static void validate(GeneratorProperties properties) {
+        if (properties.getAuthors() < 0 || properties.getGenres() < 0 || properties.getBooks() < 0) {
+            throw new IllegalArgumentException("Generated documents count must not be negative");
+        }
+        if (properties.getBooks() > 0 && (properties.getAuthors() == 0 || properties.getGenres() == 0)) {
+            throw new IllegalArgumentException("Generated books need at least one author and one genre");
+        }
+        if (properties.getBatchSize() <= 0 || properties.getMaxGenresPerBook() <= 0) {
+            throw new IllegalArgumentException("Batch size and max genres per book must be positive");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.otus.hw.generator;
+
+public record GenerationResult(long authors, long genres, long books, long bookGenres, long comments,
+                               long elapsedMillis) {
+
+    public long rows() {
+        return authors + genres + books + bookGenres + comments;
+    }
+
+    @Override
+    public String toString() {
+        return "Generated %d authors, %d genres, %d books, %d book genres, %d comments: %d rows in %d ms".formatted(
+                authors, genres, books, bookGenres, comments, rows(), elapsedMillis);
+    }
+}
@@ -1,6 +1,9 @@
 package ru.otus.hw.repositories;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
@@ -14,6 +17,12 @@ public interface BookRepository extends MongoRepository<Book, String> {
 
     List<Book> findAll();
 
+    List<Book> findAllByOrderByTitleAscIdAsc(Limit limit);
+
+    @Query(value = "{ $or: [ { title: { $gt: ?0 } }, { title: ?0, _id: { $gt: ?1 } } ] }",
+            sort = "{ title: 1, _id: 1 }")
+    List<Book> findPageAfter(String afterTitle, ObjectId afterId, Limit limit);
+
     Book save(Book book);
 
     void deleteById(String id);
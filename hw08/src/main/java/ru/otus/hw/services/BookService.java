@@ -13,6 +13,8 @@ public interface BookService {
 
     List<BookDto> findAll();
 
+    List<BookDto> findPage(String afterTitle, String afterId, int limit);
+
     BookDto insert(String title, String authorFullName, Set<String> genreNames);
 
     BookDto update(String id, String title, String authorFullName, Set<String> genreNames);
@@ -1,6 +1,8 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,11 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final int MAX_PAGE_LIMIT = 1000;
+
+    // Меньше любого ObjectId: курсор только по названию начинается с первой книги с таким названием
+    private static final ObjectId MIN_ID = new ObjectId(new byte[12]);
+
     private final AuthorRepository authorRepository;
 
     private final GenreRepository genreRepository;
@@ -49,6 +56,18 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll().stream().map(bookConverter::bookToBookDto).collect(Collectors.toList());
     }
 
+    @Override
+    public List<BookDto> findPage(String afterTitle, String afterId, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and %d".formatted(MAX_PAGE_LIMIT));
+        }
+        var books = afterTitle == null
+                ? bookRepository.findAllByOrderByTitleAscIdAsc(Limit.of(limit))
+                : bookRepository.findPageAfter(afterTitle, afterId == null ? MIN_ID : new ObjectId(afterId),
+                        Limit.of(limit));
+        return books.stream().map(bookConverter::bookToBookDto).collect(Collectors.toList());
+    }
+
     @Transactional
     @Override
     public BookDto insert(String title, String authorFullName, Set<String> genreNames) {
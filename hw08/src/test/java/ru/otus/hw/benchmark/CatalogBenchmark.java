@@ -0,0 +1,113 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import ru.otus.hw.Application;
+import ru.otus.hw.dto.BookCommentDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.generator.CatalogGenerator;
+import ru.otus.hw.generator.GeneratorProperties;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.BookCommentService;
+import ru.otus.hw.services.BookService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CatalogBenchmark {
+
+    private static final List<Set<String>> GENRE_NAMES = List.of(Set.of("Genre_1", "Genre_2"),
+            Set.of("Genre_2", "Genre_3"));
+
+    @Param({"10000"})
+    private int catalogBooks;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    private BookCommentService bookCommentService;
+
+    private BookDto book;
+
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        var environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.shell.interactive.enabled", "false",
+                "spring.shell.noninteractive.enabled", "false",
+                "logging.level.root", "WARN")));
+        context = new SpringApplicationBuilder(Application.class).environment(environment).run();
+
+        var properties = new GeneratorProperties();
+        properties.setBooks(catalogBooks);
+        properties.setAuthors(Math.max(1, catalogBooks / 10));
+        properties.setGenres(100);
+        context.getBean(CatalogGenerator.class).generate(properties);
+
+        bookService = context.getBean(BookService.class);
+        bookCommentService = context.getBean(BookCommentService.class);
+        var middleBook = context.getBean(MongoTemplate.class).findOne(
+                new Query().with(Sort.by("_id")).skip(catalogBooks / 2), Book.class);
+        book = bookService.findById(middleBook.getId()).orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<BookDto> bookFindById() {
+        return bookService.findById(book.getId());
+    }
+
+    @Benchmark
+    public List<BookDto> bookFindAll() {
+        return bookService.findAll();
+    }
+
+    @Benchmark
+    public BookDto bookInsert() {
+        return bookService.insert("Benchmark book " + counter++, book.getAuthor().getFullName(), GENRE_NAMES.get(0));
+    }
+
+    @Benchmark
+    public BookDto bookUpdateGenres() {
+        return bookService.update(book.getId(), book.getTitle(), book.getAuthor().getFullName(),
+                GENRE_NAMES.get((int) (counter++ & 1)));
+    }
+
+    @Benchmark
+    public List<BookCommentDto> commentsFindForBook() {
+        return bookCommentService.findByBookId(book.getId());
+    }
+}
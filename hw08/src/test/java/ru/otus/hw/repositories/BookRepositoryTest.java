@@ -4,8 +4,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -56,6 +58,18 @@ class BookRepositoryTest {
         assertThat(actualBooks).usingRecursiveComparison().isEqualTo(expectedBooks);
     }
 
+    @DisplayName("должен загружать книги постранично по (title, id)")
+    @Test
+    void shouldReturnBooksPageByTitleAndId() {
+        var firstPage = repositoryMongo.findAllByOrderByTitleAscIdAsc(Limit.of(2));
+        var lastBook = firstPage.get(firstPage.size() - 1);
+        var secondPage = repositoryMongo.findPageAfter(lastBook.getTitle(), new ObjectId(lastBook.getId()),
+                Limit.of(2));
+
+        assertThat(firstPage).extracting(Book::getTitle).containsExactly("BookTitle_1", "BookTitle_2");
+        assertThat(secondPage).extracting(Book::getTitle).containsExactly("BookTitle_3");
+    }
+
     @DirtiesContext(methodMode = AFTER_METHOD)
     @DisplayName("должен сохранять новую книгу")
     @Test
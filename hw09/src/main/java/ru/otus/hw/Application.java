@@ -2,6 +2,8 @@ package ru.otus.hw;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import ru.otus.hw.generator.GeneratorProperties;
 
 //http://localhost:8080
 //http://localhost:8080/authors
@@ -9,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 //http://localhost:8080/comments?id=1
 //http://localhost:8080/edit?id=1
 //http://localhost:8080/edit?id=111
+@EnableConfigurationProperties(GeneratorProperties.class)
 @SpringBootApplication
 public class Application {
 
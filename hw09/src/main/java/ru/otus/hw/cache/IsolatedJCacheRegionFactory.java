@@ -0,0 +1,37 @@
+package ru.otus.hw.cache;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JCacheRegionFactory со своим CacheManager у каждой фабрики сессий, а не одним на всю JVM.
+ */
+public class IsolatedJCacheRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        URI configUri = getUri(settings, properties);
+        if (configUri == null) {
+            throw new CacheException("Ehcache configuration is not set in " + ConfigSettings.CONFIG_URI);
+        }
+        var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        try {
+            var configuration = new XmlConfiguration(configUri.toURL(), getClassLoader(provider));
+            // Провайдер хранит CacheManager по адресу, поэтому адрес у каждой фабрики сессий свой
+            return provider.getCacheManager(URI.create(configUri + "#" + UUID.randomUUID()), configuration);
+        } catch (MalformedURLException e) {
+            throw new CacheException("Unable to read Ehcache configuration " + configUri, e);
+        }
+    }
+}
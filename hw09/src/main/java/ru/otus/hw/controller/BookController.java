@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import ru.otus.hw.converters.BookConverter;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
@@ -24,6 +25,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class BookController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final BookService bookService;
 
     private final AuthorService authorService;
@@ -33,9 +36,16 @@ public class BookController {
     private final BookConverter bookConverter;
 
     @GetMapping({"/", "/books"})
-    public String listBookPage(Model model) {
-        List<BookDto> books = bookService.findAll();
+    public String listBookPage(@RequestParam(value = "afterTitle", required = false) String afterTitle,
+                               @RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                               @RequestParam(value = "limit", defaultValue = DEFAULT_PAGE_SIZE) int limit,
+                               Model model) {
+        List<BookDto> books = bookService.findPage(afterTitle, afterId, limit);
         model.addAttribute("books", books);
+        model.addAttribute("limit", limit);
+        if (books.size() == limit) {
+            model.addAttribute("nextBook", books.get(books.size() - 1));
+        }
         return "books";
     }
 
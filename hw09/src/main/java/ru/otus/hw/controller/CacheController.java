@@ -0,0 +1,27 @@
+package ru.otus.hw.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import ru.otus.hw.cache.SecondLevelCache;
+
+@Controller
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCache secondLevelCache;
+
+    @GetMapping("/cache")
+    public String cacheStatsPage(Model model) {
+        model.addAttribute("caches", secondLevelCache.stats());
+        return "cache";
+    }
+
+    @PostMapping("/cache/clear")
+    public String clearCache() {
+        secondLevelCache.clear();
+        return "redirect:/cache";
+    }
+}
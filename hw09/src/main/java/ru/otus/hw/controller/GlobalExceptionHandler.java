@@ -1,11 +1,14 @@
 package ru.otus.hw.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.ModelAndView;
 import ru.otus.hw.exceptions.NotFoundException;
 
+import java.util.Map;
+
 @RequiredArgsConstructor
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -16,4 +19,9 @@ public class GlobalExceptionHandler {
                 "errorText", "Page not found");
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ModelAndView handleIllegalArgumentException(IllegalArgumentException ex) {
+        return new ModelAndView("customError", Map.of("errorText", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
 }
\ No newline at end of file
@@ -27,4 +27,6 @@ create table book_comments(
     id bigserial,
     book_id bigint references books(id) on delete cascade,
     comment varchar(255)
-);
\ No newline at end of file
+);
+
+create index idx_books_title_id on books (title, id, author_id);
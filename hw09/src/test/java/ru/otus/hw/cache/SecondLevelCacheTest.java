@@ -0,0 +1,51 @@
+package ru.otus.hw.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кеш второго уровня Hibernate ")
+@DataJpaTest
+@Import(SecondLevelCache.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @DisplayName("должен отдавать списки авторов и жанров для формы книги из кеша запросов")
+    @Test
+    void shouldReturnCachedFormLists() {
+        secondLevelCache.clear();
+        var authors = authorRepository.findAll();
+        var genres = genreRepository.findAll();
+        long hitsBefore = queryStats().hits();
+
+        assertThat(authorRepository.findAll()).isEqualTo(authors);
+        assertThat(genreRepository.findAll()).isEqualTo(genres);
+        assertThat(queryStats().hits()).isEqualTo(hitsBefore + 2);
+    }
+
+    private CacheStats queryStats() {
+        return secondLevelCache.stats().stream()
+                .filter(stats -> stats.name().equals(QUERY_REGION))
+                .findFirst()
+                .orElseThrow();
+    }
+}
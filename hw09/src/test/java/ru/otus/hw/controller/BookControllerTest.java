@@ -25,12 +25,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @DisplayName("Контроллер для работы с книгами ")
@@ -74,10 +77,36 @@ public class BookControllerTest {
     @DisplayName("должен отображать спиcок книг на главной странице")
     @Test
     void shouldRenderListBookPageWithCorrectViewAndModelAttributes() throws Exception {
-        when(bookService.findAll()).thenReturn(books);
+        when(bookService.findPage(null, 0, 20)).thenReturn(books);
         mvc.perform(get("/"))
                 .andExpect(view().name("books"))
-                .andExpect(model().attribute("books", books));
+                .andExpect(model().attribute("books", books))
+                .andExpect(model().attributeDoesNotExist("nextBook"));
+    }
+
+    @DisplayName("должен отображать страницу книг после переданной и ссылку на следующую")
+    @Test
+    void shouldRenderBooksPageAfterCursorWithNextPageLink() throws Exception {
+        var page = books.subList(1, 3);
+        when(bookService.findPage("TestBook 1L", 1L, 2)).thenReturn(page);
+        mvc.perform(get("/books")
+                        .param("afterTitle", "TestBook 1L")
+                        .param("afterId", "1")
+                        .param("limit", "2"))
+                .andExpect(view().name("books"))
+                .andExpect(model().attribute("books", page))
+                .andExpect(model().attribute("nextBook", books.get(2)))
+                .andExpect(content().string(containsString(
+                        "/books?afterTitle=TestBook%2010L&amp;afterId=10&amp;limit=2")));
+    }
+
+    @DisplayName("должен отвечать 400, если размер страницы недопустим")
+    @Test
+    void shouldRespondBadRequestWhenPageLimitIsInvalid() throws Exception {
+        when(bookService.findPage(null, 0L, 0)).thenThrow(new IllegalArgumentException("Page limit"));
+        mvc.perform(get("/books").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("customError"));
     }
 
     @DisplayName("должен отображать данные о книге на странице редактирования")
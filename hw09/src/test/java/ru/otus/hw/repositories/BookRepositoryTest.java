@@ -55,6 +55,18 @@ class BookRepositoryTest {
         assertThat(actualBooks).usingRecursiveComparison().ignoringExpectedNullFields().isEqualTo(expectedBooks);
     }
 
+    @DisplayName("должен загружать книги постранично по (title, id)")
+    @Test
+    void shouldReturnBooksPageByTitleAndId() {
+        var firstPage = repositoryJpa.findPage(null, 0, 2);
+        var lastBook = firstPage.get(firstPage.size() - 1);
+        var secondPage = repositoryJpa.findPage(lastBook.getTitle(), lastBook.getId(), 2);
+
+        assertThat(firstPage).extracting(Book::getId).containsExactly(1L, 2L);
+        assertThat(secondPage).extracting(Book::getId).containsExactly(3L);
+        assertThat(secondPage.get(0).getGenres()).extracting(Genre::getId).containsExactlyInAnyOrder(5L, 6L);
+    }
+
     @DisplayName("должен сохранять новую книгу")
     @Test
     void shouldSaveNewBook() {
@@ -3,13 +3,17 @@ package ru.otus.hw;
 import com.github.cloudyrock.spring.v5.EnableMongock;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import ru.otus.hw.generator.GeneratorProperties;
 
 // Запуск миграции sm-jl
 // Перезапуск миграции rm-jl (еще раз закидывает теже данные, старые не чистит, наверное это и подразумевалось)
 // Запуск консоли h2
+// Заполнение Mongo синтетическим каталогом перед миграцией gdata
 @EnableMongock
 @EnableMongoRepositories(basePackages = {"ru.otus.hw.repositories"})
+@EnableConfigurationProperties(GeneratorProperties.class)
 @SpringBootApplication
 public class Application {
 
@@ -0,0 +1,29 @@
+package ru.otus.hw.generator;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Размеры синтетического каталога, в документах добавляемых к уже имеющимся данным
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "generator")
+public class GeneratorProperties {
+
+    private int authors = 10_000;
+
+    private int genres = 200;
+
+    private int books = 100_000;
+
+    private int maxGenresPerBook = 4;
+
+    private double averageCommentsPerBook = 3;
+
+    private int maxCommentsPerBook = 100;
+
+    // Документов в одном insertMany
+    private int batchSize = 1_000;
+
+    private long seed = 42;
+}
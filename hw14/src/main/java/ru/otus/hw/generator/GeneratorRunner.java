@@ -0,0 +1,29 @@
+package ru.otus.hw.generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// С профилем generator каталог заполняется при запуске: -Dspring.profiles.active=generator.
+// Раньше оболочки, которая тоже запускается как ApplicationRunner и ждет команд
+@Slf4j
+@Profile("generator")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class GeneratorRunner implements ApplicationRunner {
+
+    private final CatalogGenerator catalogGenerator;
+
+    private final GeneratorProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("{}", catalogGenerator.generate(properties));
+    }
+}
@@ -29,6 +29,8 @@ create table book_comments(
     comment varchar(255)
 );
 
+create index idx_books_title_id on books (title, id, author_id);
+
 create table item_mapping(
       h2_id bigserial,
       mongo_id varchar(255),